@@ -36,6 +36,11 @@ import org.eclipse.swt.widgets.Display;
 import org.eclipse.ui.PlatformUI;
 
 public class LogStyle implements LineStyleListener, IPropertyChangeListener {
+
+	private static final String WARNING = Level.WARNING.getName();
+	private static final String SEVERE = Level.SEVERE.getName();
+	private static final String FATAL = "FATAL";
+
 	Display display = Display.getCurrent();
 
 	IPreferenceStore store = PayaraToolsPlugin.getInstance().getPreferenceStore();
@@ -50,30 +55,45 @@ public class LogStyle implements LineStyleListener, IPropertyChangeListener {
 	@Override
 	public void lineGetStyle(LineStyleEvent event) {
 		StyleRange styleRange = null;
-		String buf = event.lineText;
-		int start;
 
 		if (colorInConsole) {
-			if ((start = buf.indexOf(Level.WARNING.getName())) != -1) {
+			String buf = event.lineText;
+			int warning = -1;
+			int severe = -1;
+			int fatal = -1;
+
+			// Single pass over the line, WARNING takes precedence over SEVERE over FATAL
+			for (int i = 0; i < buf.length() && warning == -1; i++) {
+				char c = buf.charAt(i);
+				if (c == 'W' && buf.startsWith(WARNING, i)) {
+					warning = i;
+				} else if (c == 'S' && severe == -1 && buf.startsWith(SEVERE, i)) {
+					severe = i;
+				} else if (c == 'F' && fatal == -1 && buf.startsWith(FATAL, i)) {
+					fatal = i;
+				}
+			}
+
+			if (warning != -1) {
 				styleRange = new StyleRange();
-				styleRange.start = event.lineOffset + start;
+				styleRange.start = event.lineOffset + warning;
 				styleRange.length = 6;
 				styleRange.foreground = display.getSystemColor(SWT.COLOR_DARK_YELLOW);
-			} else if ((start = buf.indexOf(Level.SEVERE.getName())) != -1) {
+			} else if (severe != -1) {
 				// Makr severe error and exception stack trace as error color
 				styleRange = new StyleRange();
 				String errorColorName = org.eclipse.jface.preference.JFacePreferences.ERROR_COLOR;
 				styleRange.foreground = PlatformUI.getWorkbench().getThemeManager().getCurrentTheme().getColorRegistry()
 						.get(errorColorName);
-				styleRange.start = event.lineOffset + start;
+				styleRange.start = event.lineOffset + severe;
 				styleRange.length = 5;
 				styleRange.fontStyle = SWT.BOLD;
-			} else if ((start = buf.indexOf("FATAL")) != -1) {
+			} else if (fatal != -1) {
 				styleRange = new StyleRange();
 				String errorColorName = org.eclipse.jface.preference.JFacePreferences.ERROR_COLOR;
 				styleRange.foreground = PlatformUI.getWorkbench().getThemeManager().getCurrentTheme().getColorRegistry()
 						.get(errorColorName);
-				styleRange.start = event.lineOffset + start;
+				styleRange.start = event.lineOffset + fatal;
 				styleRange.length = 4;
 				styleRange.fontStyle = SWT.BOLD;
 			}
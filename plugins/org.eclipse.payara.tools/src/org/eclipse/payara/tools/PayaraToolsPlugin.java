@@ -37,6 +37,7 @@ import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.jface.resource.ImageDescriptor;
 import org.eclipse.jface.resource.ImageRegistry;
+import org.eclipse.payara.tools.sdk.utils.JavaVmMetadata;
 import org.eclipse.payara.tools.server.events.RuntimeLifecycleListener;
 import org.eclipse.payara.tools.server.events.ServerLifecycleListener;
 import org.eclipse.ui.plugin.AbstractUIPlugin;
@@ -69,6 +70,7 @@ public class PayaraToolsPlugin extends AbstractUIPlugin {
 	public void start(BundleContext context) throws Exception {
 		super.start(context);
 
+		JavaVmMetadata.setCacheFile(getStateLocation().append("jvm-versions.properties").toFile());
 		addRuntimeLifecycleListener(new RuntimeLifecycleListener());
 		addServerLifecycleListener(new ServerLifecycleListener());
 	}
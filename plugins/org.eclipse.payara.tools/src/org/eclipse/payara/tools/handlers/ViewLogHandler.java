@@ -26,6 +26,7 @@ import static org.eclipse.payara.tools.utils.WtpUtil.load;
 
 import org.eclipse.payara.tools.log.IPayaraConsole;
 import org.eclipse.payara.tools.sdk.server.FetchLogPiped;
+import org.eclipse.payara.tools.sdk.server.LogIndex;
 import org.eclipse.payara.tools.server.PayaraServer;
 import org.eclipse.payara.tools.server.ServerStatus;
 import org.eclipse.wst.server.core.IServer;
@@ -45,6 +46,9 @@ public class ViewLogHandler extends AbstractPayaraSelectionHandler {
 				}
 
 				removeServerLogFileConsole(serverAdapter);
+			} else {
+				// Keep log history index current for seeking in server log
+				LogIndex.get(serverAdapter).refresh();
 			}
 
 			IPayaraConsole console = getServerLogFileConsole(serverAdapter);
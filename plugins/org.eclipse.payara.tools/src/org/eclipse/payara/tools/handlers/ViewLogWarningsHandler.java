@@ -0,0 +1,86 @@
+/******************************************************************************
+ * Copyright (c) 2020 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.eclipse.payara.tools.handlers;
+
+import static java.util.logging.Level.WARNING;
+import static org.eclipse.payara.tools.PayaraToolsPlugin.logMessage;
+import static org.eclipse.payara.tools.log.PayaraConsoleManager.getServerLogWarningsConsole;
+import static org.eclipse.payara.tools.log.PayaraConsoleManager.showConsole;
+import static org.eclipse.payara.tools.utils.WtpUtil.load;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.payara.tools.log.IPayaraConsole;
+import org.eclipse.payara.tools.sdk.server.FetchLogPiped;
+import org.eclipse.payara.tools.sdk.server.LogFilterSpec;
+import org.eclipse.payara.tools.sdk.server.LogIndex;
+import org.eclipse.payara.tools.server.PayaraServer;
+import org.eclipse.payara.tools.server.ServerStatus;
+import org.eclipse.wst.server.core.IServer;
+
+/**
+ * Opens a console showing only warnings and errors of the server log. Other
+ * records are dropped by the console's filter specification before they are
+ * formatted. Local server log is opened at the first warning found trough the
+ * log history index, so the log before it is never read.
+ */
+public class ViewLogWarningsHandler extends AbstractPayaraSelectionHandler {
+
+	@Override
+	public void processSelection(IServer server) {
+		try {
+			PayaraServer serverAdapter = load(server, PayaraServer.class);
+
+			if (serverAdapter.isRemote() && !serverAdapter.getServerBehaviourAdapter().getServerStatus(true)
+					.equals(ServerStatus.RUNNING_DOMAIN_MATCHING)) {
+				showMessageDialog();
+				return;
+			}
+
+			IPayaraConsole console = getServerLogWarningsConsole(serverAdapter);
+			showConsole(console);
+
+			if (console.isLogging()) {
+				return;
+			}
+
+			if (serverAdapter.isRemote()) {
+				console.startLogging(FetchLogPiped.create(serverAdapter, false));
+				return;
+			}
+
+			new Job("Opening server log warnings") {
+				@Override
+				protected IStatus run(IProgressMonitor monitor) {
+					try {
+						LogIndex index = LogIndex.get(serverAdapter).refresh().get();
+						LogIndex.Position start = index.seek(new LogFilterSpec().minLevel(WARNING));
+
+						if (!console.isLogging()) {
+							// No warnings logged so far, just follow new records
+							console.startLogging(start != null ? FetchLogPiped.create(serverAdapter, start)
+									: FetchLogPiped.create(serverAdapter, true));
+						}
+					} catch (Exception e) {
+						logMessage("Error opening log warnings: " + e.getMessage());
+					}
+
+					return Status.OK_STATUS;
+				}
+			}.schedule();
+
+		} catch (Exception e) {
+			logMessage("Error opening log warnings: " + e.getMessage());
+		}
+	}
+
+}
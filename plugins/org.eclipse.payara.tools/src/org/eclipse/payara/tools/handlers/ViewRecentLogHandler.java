@@ -0,0 +1,73 @@
+/******************************************************************************
+ * Copyright (c) 2020 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.eclipse.payara.tools.handlers;
+
+import static org.eclipse.payara.tools.PayaraToolsPlugin.logMessage;
+import static org.eclipse.payara.tools.log.PayaraConsoleManager.getRecentServerLogConsole;
+import static org.eclipse.payara.tools.log.PayaraConsoleManager.showConsole;
+import static org.eclipse.payara.tools.utils.WtpUtil.load;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.payara.tools.log.IPayaraConsole;
+import org.eclipse.payara.tools.sdk.server.FetchLogPiped;
+import org.eclipse.payara.tools.sdk.server.LogIndex;
+import org.eclipse.payara.tools.server.PayaraServer;
+import org.eclipse.wst.server.core.IServer;
+
+/**
+ * Opens the log of a local server at the first record of the last
+ * {@link #RECENT_PERIOD} milliseconds, including rotated log files, and follows
+ * the log afterwards. The record is found trough the log history index, so the
+ * log before it is never read.
+ */
+public class ViewRecentLogHandler extends AbstractPayaraSelectionHandler {
+
+	/** How far back the recent log starts, in milliseconds. */
+	static final long RECENT_PERIOD = 5 * 60 * 1000;
+
+	@Override
+	public void processSelection(IServer server) {
+		try {
+			PayaraServer serverAdapter = load(server, PayaraServer.class);
+
+			IPayaraConsole console = getRecentServerLogConsole(serverAdapter);
+			showConsole(console);
+
+			if (!console.isLogging()) {
+				new Job("Opening recent server log") {
+					@Override
+					protected IStatus run(IProgressMonitor monitor) {
+						try {
+							LogIndex index = LogIndex.get(serverAdapter).refresh().get();
+							LogIndex.Position start = index.seekTime(System.currentTimeMillis() - RECENT_PERIOD);
+
+							if (!console.isLogging()) {
+								// Nothing logged recently, just follow new records
+								console.startLogging(start != null ? FetchLogPiped.create(serverAdapter, start)
+										: FetchLogPiped.create(serverAdapter, true));
+							}
+						} catch (Exception e) {
+							logMessage("Error opening recent log: " + e.getMessage());
+						}
+
+						return Status.OK_STATUS;
+					}
+				}.schedule();
+			}
+
+		} catch (Exception e) {
+			logMessage("Error opening recent log: " + e.getMessage());
+		}
+	}
+
+}
@@ -0,0 +1,108 @@
+/******************************************************************************
+ * Copyright (c) 2020 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.eclipse.payara.tools.internal;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+/**
+ * This job refreshes the Payara libraries container, effectively whenever
+ * ".settings/org.eclipse.wst.common.project.facet.core.xml" in a project
+ * changes.
+ *
+ * <p>
+ * Requests are collected in a set, so a project queued several times is
+ * refreshed once. The job waits until no new request arrived for
+ * {@link #QUIET_PERIOD} milliseconds, but not longer than {@link #MAX_DELAY}
+ * milliseconds after the first one, and then refreshes all queued projects in
+ * one workspace operation. This way a branch checkout touching many projects
+ * causes one classpath update instead of one per project.
+ */
+public class ContainersRefreshJob extends Job {
+
+	/** Time without new requests before queued projects are refreshed. */
+	static final int QUIET_PERIOD = 300;
+
+	/** Maximal time the first queued project waits for refresh. */
+	static final int MAX_DELAY = 2000;
+
+	private final Set<IProject> projects = new LinkedHashSet<>();
+
+	private long firstRequest;
+	private long lastRequest;
+
+	public ContainersRefreshJob() {
+		super("Refreshing Payara library containers");
+		setSystem(true);
+		setPriority(SHORT);
+	}
+
+	/**
+	 * Queues the project for refresh.
+	 */
+	public void addProjectToQueue(IProject project) {
+		synchronized (projects) {
+			long now = System.currentTimeMillis();
+			if (projects.isEmpty()) {
+				firstRequest = now;
+			}
+			lastRequest = now;
+			projects.add(project);
+		}
+
+		schedule(QUIET_PERIOD);
+	}
+
+	@Override
+	protected IStatus run(IProgressMonitor monitor) {
+		List<IProject> batch;
+
+		synchronized (projects) {
+			if (projects.isEmpty()) {
+				return Status.OK_STATUS;
+			}
+
+			long now = System.currentTimeMillis();
+			long quietFor = now - lastRequest;
+			long waitingFor = now - firstRequest;
+			if (quietFor < QUIET_PERIOD && waitingFor < MAX_DELAY) {
+				// Still within a burst, wait for it to end
+				schedule(Math.min(QUIET_PERIOD - quietFor, MAX_DELAY - waitingFor));
+				return Status.OK_STATUS;
+			}
+
+			batch = new ArrayList<>(projects);
+			projects.clear();
+		}
+
+		try {
+			IWorkspace workspace = ResourcesPlugin.getWorkspace();
+
+			workspace.run(operationMonitor -> SystemLibrariesContainer.refresh(batch, operationMonitor),
+					workspace.getRoot(), 0, monitor);
+		} catch (CoreException e) {
+			return e.getStatus();
+		}
+
+		return Status.OK_STATUS;
+	}
+
+}
@@ -18,31 +18,67 @@
 
 package org.eclipse.payara.tools.internal;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.eclipse.payara.tools.sdk.utils.ServerUtils.isAdminPortListening;
 import static org.eclipse.payara.tools.server.ServerStatus.NOT_DEFINED;
+import static org.eclipse.payara.tools.server.ServerStatus.STOPPED_NOT_LISTENING;
+import static org.eclipse.wst.server.core.IServer.STATE_STARTING;
+import static org.eclipse.wst.server.core.IServer.STATE_STOPPING;
 
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.payara.tools.server.PayaraServer;
 import org.eclipse.payara.tools.server.ServerStatus;
 import org.eclipse.payara.tools.utils.ServerStatusHelper;
 
+/**
+ * Polls the status of one server on the scheduler shared by all monitors.
+ *
+ * <p>
+ * The delay before the next poll adapts to the server state: servers that are
+ * starting or stopping are polled fast, stable servers slowly with some jitter
+ * so the polls of many servers do not line up. For a stopped local server only
+ * its admin port is probed, the full status check resumes once the port
+ * opens.
+ */
 public class ServerStatusMonitor implements Runnable {
 
-	private static final int DEFAULT_DELAY_IN_SEC = 5;
+	private static final int DEFAULT_DELAY_IN_SEC = 10;
+
+	// Delay while the server is starting or stopping
+	private static final long TRANSITION_DELAY_IN_MS = 1000;
+
+	// Delay between admin port probes of a stopped local server
+	private static final long PORT_PROBE_DELAY_IN_MS = 2000;
+
+	// Admin port probe timeout
+	private static final int PORT_PROBE_TIMEOUT_IN_MS = 500;
+
+	// Stable delays are stretched by up to this fraction at random
+	private static final double JITTER = 0.25;
+
+	private static final int SCHEDULER_POOL_SIZE = 2;
+
+	private static final ScheduledThreadPoolExecutor scheduler = createScheduler();
 
-	private ScheduledExecutorService scheduler;
 	private PayaraServer server;
 	private int delay;
-	private ScheduledFuture<?> scheduledTask;
+	private volatile ScheduledFuture<?> scheduledTask;
+	private volatile boolean running;
 
 	private volatile ServerStatus status = NOT_DEFINED;
 	private CopyOnWriteArrayList<ServerStateListener> listeners;
 
+	private final AtomicLong pollCount = new AtomicLong();
+	private final AtomicLong totalPollLatency = new AtomicLong();
+	private volatile long lastPollLatency;
+
 	private ServerStatusMonitor(PayaraServer server) {
 		this(server, DEFAULT_DELAY_IN_SEC);
 	}
@@ -69,43 +105,139 @@ public class ServerStatusMonitor implements Runnable {
 		return new ServerStatusMonitor(server, checkInterval);
 	}
 
+	private static ScheduledThreadPoolExecutor createScheduler() {
+		ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(SCHEDULER_POOL_SIZE, runnable -> {
+			Thread thread = new Thread(runnable, "Payara Server Status Monitor");
+			thread.setDaemon(true);
+			return thread;
+		});
+		executor.setKeepAliveTime(60, SECONDS);
+		executor.allowCoreThreadTimeOut(true);
+		executor.setRemoveOnCancelPolicy(true);
+
+		return executor;
+	}
+
 	public void start() {
-		scheduler = Executors.newSingleThreadScheduledExecutor();
-		scheduledTask = scheduler.scheduleWithFixedDelay(this, 0, delay, SECONDS);
+		running = true;
+		schedule(0);
 	}
 
 	public void stop() {
-		scheduledTask.cancel(true);
-		scheduler.shutdown();
+		running = false;
+		ScheduledFuture<?> task = scheduledTask;
+		if (task != null) {
+			task.cancel(true);
+		}
 	}
 
 	@Override
 	public void run() {
+		if (!running) {
+			return;
+		}
+
+		try {
+			if (isSuspended() && !isAdminPortListening(server, PORT_PROBE_TIMEOUT_IN_MS)) {
+				return;
+			}
+
+			poll();
+		} finally {
+			schedule(nextDelay());
+		}
+	}
+
+	/**
+	 * Checks the server status and notifies the listeners. Polls scheduled by the
+	 * monitor and forced updates are serialized.
+	 */
+	private synchronized void poll() {
+		long start = System.nanoTime();
 		status = ServerStatusHelper.checkServerStatus(server);
+		long latency = NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		lastPollLatency = latency;
+		totalPollLatency.addAndGet(latency);
+		pollCount.incrementAndGet();
+
 		notifyListeners(status);
 	}
 
+	private void schedule(long delayInMs) {
+		if (running) {
+			scheduledTask = scheduler.schedule(this, delayInMs, MILLISECONDS);
+		}
+	}
+
+	/*
+	 * A stopped local server can only come up again by opening its admin port, so
+	 * there is nothing to check until then.
+	 */
+	private boolean isSuspended() {
+		return status == STOPPED_NOT_LISTENING && !server.isRemote() && !isTransition();
+	}
+
+	private boolean isTransition() {
+		int serverState = server.getServer().getServerState();
+		return serverState == STATE_STARTING || serverState == STATE_STOPPING;
+	}
+
+	private long nextDelay() {
+		if (isTransition()) {
+			return TRANSITION_DELAY_IN_MS;
+		}
+
+		if (isSuspended()) {
+			return PORT_PROBE_DELAY_IN_MS;
+		}
+
+		long stableDelay = SECONDS.toMillis(delay);
+		return stableDelay + (long) (stableDelay * JITTER * ThreadLocalRandom.current().nextDouble());
+	}
+
 	public ServerStatus getServerStatus() {
 		return getServerStatus(false);
 	}
 
 	public ServerStatus getServerStatus(boolean forceUpdate) {
 		if (forceUpdate) {
-			try {
-				scheduler.submit(this).get();
-			} catch (InterruptedException e) {
-				Thread.currentThread().interrupt();
-			} catch (ExecutionException e) {
-			}
+			poll();
 		}
 
 		return status;
 	}
 
+	/**
+	 * Returns the number of status checks done for this server.
+	 */
+	public long getPollCount() {
+		return pollCount.get();
+	}
+
+	/**
+	 * Returns the duration of the last status check in milliseconds.
+	 */
+	public long getLastPollLatency() {
+		return lastPollLatency;
+	}
+
+	/**
+	 * Returns the average duration of status checks in milliseconds.
+	 */
+	public long getAveragePollLatency() {
+		long count = pollCount.get();
+		return count == 0 ? 0 : totalPollLatency.get() / count;
+	}
+
 	public void registerServerStatusListener(ServerStateListener listener) {
 		listeners.add(listener);
 	}
 
+	public void unregisterServerStatusListener(ServerStateListener listener) {
+		listeners.remove(listener);
+	}
+
 	private void notifyListeners(ServerStatus newStatus) {
 		for (ServerStateListener listener : listeners) {
 			listener.serverStatusChanged(newStatus);
@@ -18,7 +18,6 @@
 
 package org.eclipse.payara.tools.internal;
 
-import static java.util.Collections.emptyList;
 import static org.eclipse.core.resources.IResourceChangeEvent.POST_CHANGE;
 import static org.eclipse.jdt.core.IClasspathAttribute.JAVADOC_LOCATION_ATTRIBUTE_NAME;
 import static org.eclipse.jdt.core.JavaCore.getClasspathContainer;
@@ -31,8 +30,13 @@ import java.io.File;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResourceChangeEvent;
@@ -41,6 +45,7 @@ import org.eclipse.core.resources.IResourceDelta;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.jdt.core.ClasspathContainerInitializer;
 import org.eclipse.jdt.core.IAccessRule;
@@ -59,6 +64,11 @@ import org.eclipse.sapphire.util.ListFactory;
  * This container manages the Payara "system" libraries, which is a selection
  * from the jar files in mostly glassfish/modules
  * 
+ * <p>
+ * Projects using the same Payara location and library group without source
+ * attachment settings share one immutable array of classpath entries. Only
+ * projects with source attachments get entries of their own.
+ * 
  * @author <a href="mailto:konstantin.komissarchik@oracle.com">Konstantin
  *         Komissarchik</a>
  */
@@ -69,20 +79,25 @@ public final class SystemLibrariesContainer implements IClasspathContainer {
 
 	private static final String FPROJ_METADATA_FILE = ".settings/org.eclipse.wst.common.project.facet.core.xml";
 
+	private static final IClasspathEntry[] NO_ENTRIES = {};
+	private static final IAccessRule[] NO_ACCESS_RULES = {};
+
 	private static boolean initialized;
-	private static ContainersRefresherThread containersRefresherThread;
+	private static final ContainersRefreshJob containersRefreshJob = new ContainersRefreshJob();
+
+	// Entries shared by projects, keyed by Payara location and library group
+	private static final Map<String, SharedEntries> sharedEntries = new ConcurrentHashMap<>();
+
+	// Javadoc attributes shared by all entries, keyed by javadoc location
+	private static final Map<String, IClasspathAttribute[]> javadocAttributes = new ConcurrentHashMap<>();
 
-	private final List<IClasspathEntry> classpathEntries;
+	private final IClasspathEntry[] classpathEntries;
 
 	private static synchronized void initialize() {
 		if (!initialized) {
 			initialized = true;
 
 			ResourceChangeListener.register();
-
-			containersRefresherThread = new ContainersRefresherThread();
-			containersRefresherThread.setName("PayaraLibraryContainersRefresher");
-			containersRefresherThread.start();
 		}
 	}
 
@@ -95,14 +110,33 @@ public final class SystemLibrariesContainer implements IClasspathContainer {
 		}
 
 		// Sets
-		classpathEntries = locationUtils == null ? emptyList()
-				: createClasspathEntriesForLibraries(project.getProject(), locationUtils.version(),
-						locationUtils.getLibraries(libraryGroup));
+		classpathEntries = locationUtils == null ? NO_ENTRIES
+				: getClasspathEntries(project.getProject(), locationUtils, libraryGroup);
 	}
 
 	@Override
 	public IClasspathEntry[] getClasspathEntries() {
-		return classpathEntries.toArray(new IClasspathEntry[classpathEntries.size()]);
+		return classpathEntries;
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		if (this == object) {
+			return true;
+		}
+
+		if (!(object instanceof SystemLibrariesContainer)) {
+			return false;
+		}
+
+		IClasspathEntry[] otherEntries = ((SystemLibrariesContainer) object).classpathEntries;
+
+		return classpathEntries == otherEntries || Arrays.equals(classpathEntries, otherEntries);
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(classpathEntries);
 	}
 
 	@Override
@@ -120,8 +154,8 @@ public final class SystemLibrariesContainer implements IClasspathContainer {
 		return PATH;
 	}
 
-	public static ContainersRefresherThread getContainersRefresherThread() {
-		return containersRefresherThread;
+	public static ContainersRefreshJob getContainersRefreshJob() {
+		return containersRefreshJob;
 	}
 
 	public static boolean isOnClasspath(IProject project) throws CoreException {
@@ -146,34 +180,51 @@ public final class SystemLibrariesContainer implements IClasspathContainer {
 		return classpathEntry.getPath().equals(PATH);
 	}
 
-	static void refresh(IProject project) throws CoreException {
-		if (isJavaProject(project)) {
-			refresh(JavaCore.create(project));
-		}
-	}
+	/**
+	 * Recomputes the containers of the given projects. Changed containers sharing
+	 * a container path are set in a single call, so JDT updates the classpath of
+	 * all these projects at once.
+	 */
+	static void refresh(Collection<IProject> projects, IProgressMonitor monitor) throws CoreException {
+		Map<IPath, List<IJavaProject>> changedProjects = new LinkedHashMap<>();
+		Map<IPath, List<IClasspathContainer>> changedContainers = new LinkedHashMap<>();
 
-	private static void refresh(IJavaProject project) throws CoreException {
-		IPath containerPath = null;
+		for (IProject project : projects) {
+			if (!project.isAccessible() || !isJavaProject(project)) {
+				continue;
+			}
 
-		for (IClasspathEntry classpathEntry : project.getRawClasspath()) {
-			if (isSystemLibrariesContainer(classpathEntry)) {
-				containerPath = classpathEntry.getPath();
-				break;
+			IJavaProject javaProject = JavaCore.create(project);
+			IPath containerPath = findContainerPath(javaProject);
+
+			if (containerPath != null) {
+				IClasspathContainer existingContainer = getClasspathContainer(containerPath, javaProject);
+				SystemLibrariesContainer newContainer = new SystemLibrariesContainer(containerPath, javaProject);
+
+				if (!newContainer.equals(existingContainer)) {
+					changedProjects.computeIfAbsent(containerPath, path -> new ArrayList<>()).add(javaProject);
+					changedContainers.computeIfAbsent(containerPath, path -> new ArrayList<>()).add(newContainer);
+				}
 			}
 		}
 
-		if (containerPath != null) {
-			SystemLibrariesContainer existingContainer = (SystemLibrariesContainer) getClasspathContainer(containerPath,
-					project);
-			SystemLibrariesContainer newContainer = new SystemLibrariesContainer(containerPath, project);
+		for (Map.Entry<IPath, List<IJavaProject>> changed : changedProjects.entrySet()) {
+			List<IJavaProject> javaProjects = changed.getValue();
+			List<IClasspathContainer> containers = changedContainers.get(changed.getKey());
 
-			if (!existingContainer.equals(newContainer)) {
-				IJavaProject[] projectsArray = { project };
-				IClasspathContainer[] containersArray = { newContainer };
+			JavaCore.setClasspathContainer(changed.getKey(), javaProjects.toArray(new IJavaProject[javaProjects.size()]),
+					containers.toArray(new IClasspathContainer[containers.size()]), monitor);
+		}
+	}
 
-				JavaCore.setClasspathContainer(containerPath, projectsArray, containersArray, null);
+	private static IPath findContainerPath(IJavaProject project) throws CoreException {
+		for (IClasspathEntry classpathEntry : project.getRawClasspath()) {
+			if (isSystemLibrariesContainer(classpathEntry)) {
+				return classpathEntry.getPath();
 			}
 		}
+
+		return null;
 	}
 
 	/**
@@ -269,8 +320,42 @@ public final class SystemLibrariesContainer implements IClasspathContainer {
 		}
 	}
 
-	public static List<IClasspathEntry> createClasspathEntriesForLibraries(IProject project, Version version,
-			List<File> libraries) {
+	/**
+	 * Returns the classpath entries of the library group for the project. The
+	 * returned array is shared and must not be modified.
+	 */
+	private static IClasspathEntry[] getClasspathEntries(IProject project, PayaraLocationUtils locationUtils,
+			String libraryGroup) {
+		List<File> libraries = locationUtils.getLibraries(libraryGroup);
+		if (libraries == null) {
+			return NO_ENTRIES;
+		}
+
+		SystemLibrariesSetting libSettings = SystemLibrariesSetting.load(project);
+		if (libSettings != null && !libSettings.getLibraryList().isEmpty()) {
+			// Source attachments are project specific
+			List<IClasspathEntry> entries = createClasspathEntriesForLibraries(libSettings, locationUtils.version(),
+					libraries);
+			return entries.toArray(new IClasspathEntry[entries.size()]);
+		}
+
+		String key = locationUtils.location().getAbsolutePath() + File.pathSeparator + libraryGroup;
+		SharedEntries shared = sharedEntries.get(key);
+
+		// Libraries are compared as the location may have been rescanned meanwhile
+		if (shared == null || !shared.libraries.equals(libraries)) {
+			List<IClasspathEntry> entries = createClasspathEntriesForLibraries(null, locationUtils.version(),
+					libraries);
+			shared = new SharedEntries(new ArrayList<>(libraries),
+					entries.toArray(new IClasspathEntry[entries.size()]));
+			sharedEntries.put(key, shared);
+		}
+
+		return shared.entries;
+	}
+
+	private static List<IClasspathEntry> createClasspathEntriesForLibraries(SystemLibrariesSetting libSettings,
+			Version version, List<File> libraries) {
 		ListFactory<IClasspathEntry> classpathListFactory = ListFactory.start();
 
 		URL doc;
@@ -286,7 +371,9 @@ public final class SystemLibrariesContainer implements IClasspathContainer {
 			throw new RuntimeException(e);
 		}
 
-		SystemLibrariesSetting libSettings = SystemLibrariesSetting.load(project);
+		IClasspathAttribute[] libraryJavadocAttributes = javadocAttributes.computeIfAbsent(doc.toExternalForm(),
+				location -> new IClasspathAttribute[] {
+						newClasspathAttribute(JAVADOC_LOCATION_ATTRIBUTE_NAME, location) });
 
 		if (libSettings != null) {
 
@@ -294,34 +381,41 @@ public final class SystemLibrariesContainer implements IClasspathContainer {
 			// if we have a source attachment
 
 			for (File library : libraries) {
-				classpathListFactory
-						.add(createLibraryEntry(new Path(library.toString()), libSettings.getSourcePath(library), doc));
+				classpathListFactory.add(createLibraryEntry(new Path(library.toString()),
+						libSettings.getSourcePath(library), libraryJavadocAttributes));
 			}
 		} else {
 
 			// No settings for our system library, source is always null
 
 			for (File library : libraries) {
-				classpathListFactory.add(createLibraryEntry(new Path(library.toString()), null, doc));
+				classpathListFactory
+						.add(createLibraryEntry(new Path(library.toString()), null, libraryJavadocAttributes));
 			}
 		}
 
 		return classpathListFactory.result();
 	}
 
-	private static IClasspathEntry createLibraryEntry(IPath library, File src, URL javadoc) {
+	private static IClasspathEntry createLibraryEntry(IPath library, File src,
+			IClasspathAttribute[] libraryJavadocAttributes) {
 		IPath librarySourcePath = src == null ? null : new Path(src.getAbsolutePath());
-		IAccessRule[] access = {};
-		IClasspathAttribute[] libraryJavadocAttributes;
 
-		if (javadoc == null) {
-			libraryJavadocAttributes = new IClasspathAttribute[0];
-		} else {
-			libraryJavadocAttributes = new IClasspathAttribute[] {
-					newClasspathAttribute(JAVADOC_LOCATION_ATTRIBUTE_NAME, javadoc.toExternalForm()) };
-		}
+		return newLibraryEntry(library, librarySourcePath, null, NO_ACCESS_RULES, libraryJavadocAttributes, false);
+	}
+
+	/**
+	 * Classpath entries shared by projects, with the libraries they were created
+	 * for.
+	 */
+	private static final class SharedEntries {
+		private final List<File> libraries;
+		private final IClasspathEntry[] entries;
 
-		return newLibraryEntry(library, librarySourcePath, null, access, libraryJavadocAttributes, false);
+		private SharedEntries(List<File> libraries, IClasspathEntry[] entries) {
+			this.libraries = libraries;
+			this.entries = entries;
+		}
 	}
 
 	private static final class ResourceChangeListener implements IResourceChangeListener {
@@ -357,7 +451,7 @@ public final class SystemLibrariesContainer implements IClasspathContainer {
 				}
 
 				if (relevant) {
-					containersRefresherThread.addProjectToQueue(project);
+					containersRefreshJob.addProjectToQueue(project);
 				}
 			}
 		}
@@ -18,6 +18,7 @@
 
 package org.eclipse.payara.tools.log;
 
+import org.eclipse.payara.tools.sdk.server.LogFilterSpec;
 import org.eclipse.payara.tools.server.PayaraServer;
 
 /**
@@ -40,6 +41,8 @@ public abstract class AbstractLogFilter implements ILogFilter {
 
 	protected ILogFormatter formatter;
 
+	protected volatile LogFilterSpec filterSpec;
+
 	protected AbstractLogFilter() {
 		this(new LogFormatterSimple(), new LevelResolver(), DEFAULT_DELIMETER);
 	}
@@ -66,6 +69,11 @@ public abstract class AbstractLogFilter implements ILogFilter {
 		buffer.setLength(0);
 	}
 
+	@Override
+	public void setFilterSpec(LogFilterSpec spec) {
+		filterSpec = spec;
+	}
+
 	protected abstract boolean isReadingUserMessage();
 
 	/**
@@ -19,10 +19,12 @@
 package org.eclipse.payara.tools.log;
 
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ScheduledFuture;
 
 import org.eclipse.jface.resource.ImageDescriptor;
+import org.eclipse.payara.tools.sdk.server.LogFilterSpec;
 import org.eclipse.ui.console.MessageConsole;
 import org.eclipse.ui.console.MessageConsoleStream;
 
@@ -30,14 +32,28 @@ public abstract class AbstractPayaraConsole extends MessageConsole implements IP
 
 	protected List<LogReader> readers;
 	protected MessageConsoleStream out;
+	protected ConsoleBatcher batcher;
 	protected CountDownLatch latch;
 	protected ILogFilter filter;
+	protected LogFilterSpec filterSpec;
 	protected ScheduledFuture<?> stopJobResult;
+	protected final List<LogListener> logListeners = new CopyOnWriteArrayList<>();
 
 	public AbstractPayaraConsole(String name, ImageDescriptor imageDescriptor, ILogFilter filter) {
 		super(name, imageDescriptor);
 		this.filter = filter;
 		this.out = newMessageStream();
+		this.batcher = new ConsoleBatcher(out);
+	}
+
+	@Override
+	public void addLogListener(LogListener listener) {
+		logListeners.add(listener);
+	}
+
+	@Override
+	public void removeLogListener(LogListener listener) {
+		logListeners.remove(listener);
 	}
 
 }
@@ -0,0 +1,206 @@
+/******************************************************************************
+ * Copyright (c) 2020 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.eclipse.payara.tools.log;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
+
+import org.eclipse.ui.console.MessageConsoleStream;
+
+/**
+ * Coalesces log lines written to a console into batches.
+ *
+ * <p>
+ * Lines are collected for at most {@link #BATCH_INTERVAL} milliseconds and then
+ * appended to the console document in one write, so the console is not flooded
+ * with one small append per line. A batch never grows past
+ * {@link #MAX_BATCH_CHARS}; a full batch is written right away and the line
+ * waits until it is. The wait blocks the log reader, which in turn lets the log
+ * buffer and the fetcher wait, so log lines flow only as fast as the console
+ * can show them and none are lost.
+ *
+ * <p>
+ * When skipping on overload is enabled, and every batch has filled up for
+ * {@link #OVERLOAD_PERIOD} milliseconds, lines arriving while the batch is full
+ * are not rendered but counted, and a single summary line telling how many
+ * lines were skipped is written in their place. This is meant for consoles
+ * following live output only, never for consoles replaying an existing log.
+ *
+ * <p>
+ * Batches may be flushed from several threads at once; taking a batch and
+ * writing it happen under one print lock, so batches reach the console in the
+ * order their lines were queued.
+ */
+public class ConsoleBatcher {
+
+	/** Maximal time a line waits before being written, in milliseconds. */
+	static final int BATCH_INTERVAL = 100;
+
+	/** Maximal size of one batch in characters. */
+	static final int MAX_BATCH_CHARS = 64 * 1024;
+
+	/** Time batches have to keep filling up before lines are skipped, in milliseconds. */
+	static final int OVERLOAD_PERIOD = 5000;
+
+	private static final ScheduledExecutorService flushService = Executors.newSingleThreadScheduledExecutor(r -> {
+		Thread thread = new Thread(r, "Payara console flush");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private final Consumer<String> out;
+
+	// Held from taking a batch until it is written, separate from the monitor
+	// println waits on
+	private final Object printLock = new Object();
+
+	private final StringBuilder batch = new StringBuilder(1024);
+	private int skippedInBatch;
+	private boolean flushScheduled;
+	private boolean immediateFlushScheduled;
+
+	private boolean skipOnOverload;
+	private boolean batchFilledUp;
+	private long overloadedSince;
+
+	private long linesWritten;
+	private long linesSkipped;
+	private long batches;
+
+	public ConsoleBatcher(MessageConsoleStream out) {
+		this(text -> {
+			if (!out.isClosed()) {
+				out.print(text);
+			}
+		});
+	}
+
+	ConsoleBatcher(Consumer<String> out) {
+		this.out = out;
+	}
+
+	/**
+	 * Sets whether lines may be skipped when the console can't keep up for
+	 * {@link #OVERLOAD_PERIOD} milliseconds. Disabled by default, lines then
+	 * always wait for the console.
+	 */
+	public synchronized void setSkipOnOverload(boolean skipOnOverload) {
+		this.skipOnOverload = skipOnOverload;
+		overloadedSince = 0;
+	}
+
+	/**
+	 * Queues a line to be written to the console with the next batch. Waits
+	 * while the batch is full.
+	 */
+	public synchronized void println(String line) {
+		// A line longer than a whole batch goes in alone
+		while (batch.length() > 0 && batch.length() + line.length() + 1 > MAX_BATCH_CHARS) {
+			long now = System.currentTimeMillis();
+			batchFilledUp = true;
+			if (overloadedSince == 0) {
+				overloadedSince = now;
+			}
+
+			if (skipOnOverload && now - overloadedSince >= OVERLOAD_PERIOD) {
+				skippedInBatch++;
+				linesSkipped++;
+				scheduleFlush();
+				return;
+			}
+
+			if (!immediateFlushScheduled) {
+				immediateFlushScheduled = true;
+				flushService.execute(this::flush);
+			}
+			try {
+				wait(BATCH_INTERVAL);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+
+		batch.append(line).append('\n');
+		linesWritten++;
+		scheduleFlush();
+	}
+
+	private void scheduleFlush() {
+		if (!flushScheduled) {
+			flushScheduled = true;
+			flushService.schedule(this::flush, BATCH_INTERVAL, MILLISECONDS);
+		}
+	}
+
+	/**
+	 * Writes the current batch to the console right away.
+	 */
+	public void flush() {
+		synchronized (printLock) {
+			String text;
+			synchronized (this) {
+				flushScheduled = false;
+				immediateFlushScheduled = false;
+				// Overload lasts while every batch fills up
+				if (!batchFilledUp) {
+					overloadedSince = 0;
+				}
+				batchFilledUp = false;
+				if (skippedInBatch > 0) {
+					batch.append("... ").append(skippedInBatch)
+							.append(" log lines skipped, server is logging faster than the console can show ...\n");
+					skippedInBatch = 0;
+				}
+				if (batch.length() == 0) {
+					return;
+				}
+				text = batch.toString();
+				batch.setLength(0);
+				batches++;
+				notifyAll();
+			}
+
+			// Printing outside of the monitor lets println queue the next batch
+			out.accept(text);
+		}
+	}
+
+	/**
+	 * Returns the number of lines written to the console.
+	 */
+	public synchronized long getLinesWritten() {
+		return linesWritten;
+	}
+
+	/**
+	 * Returns the number of lines skipped because the console was overloaded.
+	 */
+	public synchronized long getLinesSkipped() {
+		return linesSkipped;
+	}
+
+	/**
+	 * Returns the number of writes to the console, each coalescing one or more
+	 * lines.
+	 */
+	public synchronized long getBatches() {
+		return batches;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "written=" + linesWritten + ", skipped=" + linesSkipped + ", batches=" + batches;
+	}
+
+}
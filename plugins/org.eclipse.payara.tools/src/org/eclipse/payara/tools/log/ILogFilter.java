@@ -18,6 +18,10 @@
 
 package org.eclipse.payara.tools.log;
 
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.payara.tools.sdk.server.LogFilterSpec;
+
 public interface ILogFilter {
 
 	/**
@@ -34,6 +38,34 @@ public interface ILogFilter {
 	 */
 	String process(String line);
 
+	/**
+	 * Processes read line given as UTF-8 bytes.
+	 * <p>
+	 * Decodes the line and passes it to {@link #process(String)}. Filters able to
+	 * parse bytes directly override this, so lines are only decoded when rendered.
+	 *
+	 * @param line   - bytes of the line, mustn't contain new line character
+	 * @param offset - start of the line in given array
+	 * @param count  - length of the line
+	 * @return Complete log record or null if the read line haven't completed the
+	 *         log record.
+	 */
+	default String process(byte[] line, int offset, int count) {
+		return process(new String(line, offset, count, StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Sets conditions records must meet to be rendered.
+	 * <p>
+	 * Conditions are evaluated on raw record fields, rejected records are
+	 * consumed without being formatted. Filters not able to evaluate them ignore
+	 * the specification.
+	 *
+	 * @param spec - record conditions or null to render all records
+	 */
+	default void setFilterSpec(LogFilterSpec spec) {
+	}
+
 	default boolean hasProcessedPayara() {
 		return false;
 	}
@@ -19,16 +19,40 @@
 package org.eclipse.payara.tools.log;
 
 import org.eclipse.payara.tools.sdk.server.FetchLog;
+import org.eclipse.payara.tools.sdk.server.LogFilterSpec;
 import org.eclipse.ui.console.IConsole;
 
 public interface IPayaraConsole extends IConsole {
 
+	/**
+	 * Listener notified about every record written to the console.
+	 */
+	interface LogListener {
+
+		/**
+		 * Called from log reader thread after a filtered record is written.
+		 *
+		 * @param record         the record as written to the console
+		 * @param payaraStarted  true once the filter has processed a Payara log
+		 *                       record on this reader
+		 */
+		void logged(String record, boolean payaraStarted);
+	}
+
 	void startLogging();
 
 	void startLogging(FetchLog... logFetchers);
 
 	void setLogFilter(ILogFilter filter);
 
+	/**
+	 * Sets conditions log records must meet to be written to the console. Applies
+	 * to running and future log readers.
+	 *
+	 * @param spec record conditions or <code>null</code> to write all records
+	 */
+	void setFilterSpec(LogFilterSpec spec);
+
 	boolean isLogging();
 
 	boolean hasLogged();
@@ -39,4 +63,8 @@ public interface IPayaraConsole extends IConsole {
 
 	void stopLogging(int afterSeconds);
 
+	void addLogListener(LogListener listener);
+
+	void removeLogListener(LogListener listener);
+
 }
@@ -18,47 +18,82 @@
 
 package org.eclipse.payara.tools.log;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 
+import org.eclipse.payara.tools.log.IPayaraConsole.LogListener;
 import org.eclipse.payara.tools.sdk.server.FetchLog;
-import org.eclipse.ui.console.MessageConsoleStream;
 
 public class LogReader implements Runnable {
 
+	private static final int READ_BUFFER_SIZE = 8192;
+
 	private FetchLog logFetcher;
-	private MessageConsoleStream output;
+	private ConsoleBatcher output;
 	private CountDownLatch latch;
 	private ILogFilter filter;
+	private List<LogListener> listeners;
 
 	private boolean hasLogged;
 	private boolean hasProcessedPayara;
 
-	LogReader(FetchLog logFetcher, MessageConsoleStream outputStream, CountDownLatch latch, ILogFilter filter) {
+	LogReader(FetchLog logFetcher, ConsoleBatcher output, CountDownLatch latch, ILogFilter filter,
+			List<LogListener> listeners) {
 		this.logFetcher = logFetcher;
-		this.output = outputStream;
+		this.output = output;
 		this.latch = latch;
 		this.filter = filter;
+		this.listeners = listeners;
 	}
 
 	@Override
 	public void run() {
 		try {
-			BufferedReader reader = new BufferedReader(
-					new InputStreamReader(logFetcher.getInputStream(), StandardCharsets.UTF_8));
-
-			for (String line = null; (line = reader.readLine()) != null;) {
-				line = filter.process(line);
-				if (line != null) {
-					hasLogged = true;
-					if (!hasProcessedPayara) {
-						hasProcessedPayara = filter.hasProcessedPayara();
+			InputStream in = logFetcher.getInputStream();
+
+			// Lines are split on raw bytes, the filter decides what gets decoded
+			byte[] buffer = new byte[READ_BUFFER_SIZE];
+			int start = 0;
+			int end = 0;
+
+			while (true) {
+				if (end == buffer.length) {
+					if (start > 0) {
+						System.arraycopy(buffer, start, buffer, 0, end - start);
+						end -= start;
+						start = 0;
+					} else {
+						buffer = Arrays.copyOf(buffer, buffer.length * 2);
 					}
-					output.println(line);
 				}
+
+				int count = in.read(buffer, end, buffer.length - end);
+				if (count < 0) {
+					break;
+				}
+
+				for (int i = end, limit = end + count; i < limit; i++) {
+					if (buffer[i] == '\n') {
+						int length = i - start;
+						if (length > 0 && buffer[i - 1] == '\r') {
+							length--;
+						}
+						processLine(buffer, start, length);
+						start = i + 1;
+					}
+				}
+				end += count;
+
+				if (start == end) {
+					start = end = 0;
+				}
+			}
+
+			if (end > start) {
+				processLine(buffer, start, end - start);
 			}
 			output.flush();
 		} catch (IOException e) {
@@ -70,6 +105,21 @@ public class LogReader implements Runnable {
 		}
 	}
 
+	private void processLine(byte[] buffer, int offset, int length) {
+		String line = filter.process(buffer, offset, length);
+		// Records rejected by the filter specification count as processed too
+		if (!hasProcessedPayara) {
+			hasProcessedPayara = filter.hasProcessedPayara();
+		}
+		if (line != null) {
+			hasLogged = true;
+			output.println(line);
+			for (LogListener listener : listeners) {
+				listener.logged(line, hasProcessedPayara);
+			}
+		}
+	}
+
 	public synchronized boolean hasLogged() {
 		return hasLogged;
 	}
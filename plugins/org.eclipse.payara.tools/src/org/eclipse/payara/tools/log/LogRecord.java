@@ -18,6 +18,8 @@
 
 package org.eclipse.payara.tools.log;
 
+import java.nio.charset.StandardCharsets;
+
 import org.eclipse.payara.tools.log.AbstractLogFilter.GlassfishLogFields;
 
 class LogRecord {
@@ -29,15 +31,47 @@ class LogRecord {
 	private String threadinfo;
 	private String message;
 
+	/* UTF-8 bytes fields not set yet are decoded from, see setSource */
+	private byte[] source;
+	private int[] bounds;
+
 	LogRecord() {
 		time = level = version = classinfo = threadinfo = message = "";
 	}
 
 	public void reset() {
 		time = level = version = classinfo = threadinfo = message = "";
+		source = null;
+		bounds = null;
+	}
+
+	/**
+	 * Backs all fields by UTF-8 bytes of a parsed record. A field is decoded the
+	 * first time it is read, fields nobody reads are never decoded. Bytes must
+	 * not change until the record is reset.
+	 *
+	 * @param source bytes of the record fields
+	 * @param bounds start and end offset of each field in source, in
+	 *               {@link GlassfishLogFields} order
+	 */
+	void setSource(byte[] source, int[] bounds) {
+		this.source = source;
+		this.bounds = bounds;
+		time = level = version = classinfo = threadinfo = message = null;
+	}
+
+	private String decode(GlassfishLogFields field) {
+		if (source == null) {
+			return "";
+		}
+		int start = bounds[2 * field.ordinal()];
+		return new String(source, start, bounds[2 * field.ordinal() + 1] - start, StandardCharsets.UTF_8);
 	}
 
 	public String getTime() {
+		if (time == null) {
+			time = decode(GlassfishLogFields.DATETIME);
+		}
 		return time;
 	}
 
@@ -46,6 +80,9 @@ class LogRecord {
 	}
 
 	public String getLevel() {
+		if (level == null) {
+			level = decode(GlassfishLogFields.LEVEL);
+		}
 		return level;
 	}
 
@@ -54,6 +91,9 @@ class LogRecord {
 	}
 
 	public String getClassInfo() {
+		if (classinfo == null) {
+			classinfo = decode(GlassfishLogFields.CLASSINFO);
+		}
 		return classinfo;
 	}
 
@@ -62,6 +102,9 @@ class LogRecord {
 	}
 
 	public String getThreadInfo() {
+		if (threadinfo == null) {
+			threadinfo = decode(GlassfishLogFields.THREADINFO);
+		}
 		return threadinfo;
 	}
 
@@ -70,6 +113,9 @@ class LogRecord {
 	}
 
 	public String getMessage() {
+		if (message == null) {
+			message = decode(GlassfishLogFields.MESSAGE);
+		}
 		return message;
 	}
 
@@ -78,6 +124,9 @@ class LogRecord {
 	}
 
 	public String getVersion() {
+		if (version == null) {
+			version = decode(GlassfishLogFields.VERSION);
+		}
 		return version;
 	}
 
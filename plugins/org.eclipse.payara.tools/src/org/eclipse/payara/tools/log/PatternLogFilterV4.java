@@ -18,27 +18,37 @@
 
 package org.eclipse.payara.tools.log;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 import org.eclipse.payara.tools.PayaraToolsPlugin;
+import org.eclipse.payara.tools.sdk.server.LogFilterSpec;
 
+/**
+ * Assembles Payara (ODL) log records line by line.
+ * <p>
+ * A record is complete when its last line ends with <code>]]</code> and is
+ * followed by the empty delimiter line, which is decided per line without
+ * looking at the record assembled so far. Fields are extracted once per
+ * complete record by scanning its bracketed header. Records rejected by the
+ * filter specification are dropped right after the header scan, before the
+ * message is copied and the record formatted.
+ */
 public class PatternLogFilterV4 extends AbstractLogFilter {
 
-	private static final Pattern logPattern = Pattern.compile("^\\[([^\\]]*)\\]\\s+" + // date-time
-			"\\[([^\\]]*)\\]\\s+" + // server name
-			"\\[([^\\]]*)\\]\\s+" + // level name
-			"\\[([^\\]]*)\\]\\s+" + // version
-			"\\[([^\\]]*)\\]\\s+" + // class info
-			"\\[([^\\]]*)\\]\\s+" + // thread info
-			"\\[([^\\]]*)\\]\\s+" + // time millis
-			"\\[([^\\]]*)\\]\\s+" + // level value
-			"\\[{2}\\s*(.+)\\]{2}\\s$", Pattern.DOTALL); // log message
+	/* [time] [version] [level] [] [class] [thread] [timeMillis] [levelValue] [[message]] */
+	private static final int HEADER_FIELDS = 8;
+
+	private static final String MESSAGE_START = "[[";
+	private static final String MESSAGE_END = "]]";
 
-	private static final Pattern endOfMessagePattern = Pattern.compile("^//s*[^//]]{2}\\s$"); // log message
+	private final String[] header = new String[HEADER_FIELDS];
 
 	private boolean hasProcessedPayara;
 
+	/* The last appended line closed the message */
+	private boolean messageClosed;
+
+	/* The last parsed record was well formed but rejected by the filter specification */
+	private boolean rejected;
+
 	@Override
 	public boolean hasProcessedPayara() {
 		return hasProcessedPayara;
@@ -48,35 +58,130 @@ public class PatternLogFilterV4 extends AbstractLogFilter {
 		super();
 	}
 
+	@Override
+	public void reset() {
+		super.reset();
+		messageClosed = false;
+		rejected = false;
+	}
+
 	@Override
 	public String process(String line) {
 		String result = null;
 		if (line.equals(logRecordDelimeter)) {
-			Matcher m = logPattern.matcher(buffer);
-			if (m.matches()) {
-				record.setTime(m.group(1));
-				record.setLevel(levelResolver.resolve(m.group(3)));
-				record.setVersion(m.group(2));
-				record.setClassInfo(m.group(5));
-				record.setThreadInfo(m.group(6));
-				record.setMessage(m.group(9));
-				result = formatter.formatLogRecord(record);
+			if (messageClosed) {
+				result = parseRecord();
+				if (result != null || rejected) {
+					hasProcessedPayara = true;
+				} else {
+					PayaraToolsPlugin.logMessage("Log record that does not match expected format detected!");
+					PayaraToolsPlugin.logMessage(buffer.toString());
+				}
 				reset();
-				hasProcessedPayara = true;
-			} else if (!isReadingUserMessage()) {
-				PayaraToolsPlugin.logMessage("Log record that does not match expected format detected!");
-				PayaraToolsPlugin.logMessage(buffer.toString());
 			}
 		} else {
 			buffer.append(line);
 			buffer.append('\n');
+			messageClosed = line.endsWith(MESSAGE_END);
 		}
 		return result;
 	}
 
+	/**
+	 * Extracts fields of the complete record in buffer and formats it.
+	 *
+	 * @return formatted record or <code>null</code> when the record is malformed
+	 *         or rejected
+	 */
+	private String parseRecord() {
+		int pos = 0;
+		for (int i = 0; i < HEADER_FIELDS; i++) {
+			if (pos >= buffer.length() || buffer.charAt(pos) != '[') {
+				return null;
+			}
+			int end = buffer.indexOf("]", pos + 1);
+			if (end < 0) {
+				return null;
+			}
+			header[i] = buffer.substring(pos + 1, end);
+			pos = skipWhitespace(end + 1);
+			if (pos == end + 1) {
+				return null;
+			}
+		}
+
+		if (!startsWith(pos, MESSAGE_START)) {
+			return null;
+		}
+		int messageStart = skipWhitespace(pos + MESSAGE_START.length());
+		int messageEnd = buffer.length() - MESSAGE_END.length() - 1;
+		if (messageEnd <= messageStart) {
+			return null;
+		}
+
+		LogFilterSpec spec = filterSpec;
+		if (spec != null && !accepts(spec)) {
+			rejected = true;
+			return null;
+		}
+
+		record.setTime(header[0]);
+		record.setVersion(header[1]);
+		record.setLevel(levelResolver.resolve(header[2]));
+		record.setClassInfo(header[4]);
+		record.setThreadInfo(header[5]);
+		record.setMessage(buffer.substring(messageStart, messageEnd));
+		return formatter.formatLogRecord(record);
+	}
+
+	/**
+	 * Evaluates the filter specification on raw header fields. Fields that can't
+	 * be parsed don't reject the record.
+	 */
+	private boolean accepts(LogFilterSpec spec) {
+		long levelValue = headerValue(7);
+		if (levelValue != Long.MIN_VALUE ? !spec.acceptsLevel((int) levelValue) : !spec.acceptsLevel(header[2])) {
+			return false;
+		}
+		if (!spec.acceptsLogger(header[4]) || !spec.acceptsThread(header[5])) {
+			return false;
+		}
+		if (spec.hasTimeWindow()) {
+			long timeMillis = headerValue(6);
+			return timeMillis == Long.MIN_VALUE || spec.acceptsTime(timeMillis);
+		}
+		return true;
+	}
+
+	/**
+	 * Parses numeric value of header field like <code>levelValue: 800</code>.
+	 *
+	 * @return the value or <code>Long.MIN_VALUE</code> when it's not a number
+	 */
+	private long headerValue(int field) {
+		String text = header[field];
+		try {
+			return Long.parseLong(text.substring(text.indexOf(':') + 1).trim());
+		} catch (NumberFormatException e) {
+			return Long.MIN_VALUE;
+		}
+	}
+
+	private int skipWhitespace(int pos) {
+		while (pos < buffer.length() && Character.isWhitespace(buffer.charAt(pos))) {
+			pos++;
+		}
+		return pos;
+	}
+
+	private boolean startsWith(int pos, String prefix) {
+		return buffer.length() - pos >= prefix.length()
+				&& buffer.substring(pos, pos + prefix.length()).equals(prefix);
+	}
+
 	@Override
 	protected boolean isReadingUserMessage() {
-		return !endOfMessagePattern.matcher(buffer).matches();
+		return buffer.length() > 0 && !messageClosed;
 	}
 
 }
@@ -29,6 +29,7 @@ import java.util.concurrent.ScheduledExecutorService;
 
 import org.eclipse.payara.tools.PayaraToolsPlugin;
 import org.eclipse.payara.tools.sdk.server.FetchLog;
+import org.eclipse.payara.tools.sdk.server.LogFilterSpec;
 
 // TODO will be GlassfishLocalConsole in the future, new GlassfishRemoteConsole to be implemented
 public class PayaraConsole extends AbstractPayaraConsole implements IPayaraConsole {
@@ -79,9 +80,16 @@ public class PayaraConsole extends AbstractPayaraConsole implements IPayaraConso
 		latch = new CountDownLatch(logFetchers.length);
 		filter.reset();
 
+		// Skipping lines is fine for live output, never for an existing log being replayed
+		boolean replaying = false;
+		for (FetchLog logFetcher : logFetchers) {
+			replaying |= logFetcher.isReplaying();
+		}
+		batcher.setSkipOnOverload(!replaying);
+
 		int i = 0;
 		for (FetchLog logFetcher : logFetchers) {
-			LogReader reader = new LogReader(logFetcher, out, latch, filter);
+			LogReader reader = new LogReader(logFetcher, batcher, latch, filter, logListeners);
 			readers.add(reader);
 			new Thread(reader, "LogReader Thread" + i++).start();
 		}
@@ -121,6 +129,10 @@ public class PayaraConsole extends AbstractPayaraConsole implements IPayaraConso
 			if (latch != null) {
 				latch.await();
 			}
+			batcher.flush();
+			if (batcher.getLinesSkipped() > 0) {
+				PayaraToolsPlugin.logMessage("Console " + getName() + " " + batcher);
+			}
 			out.close();
 		} catch (IOException | InterruptedException e) {
 			e.printStackTrace();
@@ -165,6 +177,13 @@ public class PayaraConsole extends AbstractPayaraConsole implements IPayaraConso
 	@Override
 	public synchronized void setLogFilter(ILogFilter filter) {
 		this.filter = filter;
+		filter.setFilterSpec(filterSpec);
+	}
+
+	@Override
+	public synchronized void setFilterSpec(LogFilterSpec spec) {
+		filterSpec = spec;
+		filter.setFilterSpec(spec);
 	}
 
 }
@@ -19,8 +19,10 @@
 package org.eclipse.payara.tools.log;
 
 import static java.io.File.separator;
+import static java.util.logging.Level.WARNING;
 import static org.eclipse.payara.tools.log.AbstractLogFilter.createFilter;
 
+import org.eclipse.payara.tools.sdk.server.LogFilterSpec;
 import org.eclipse.payara.tools.server.PayaraServer;
 import org.eclipse.ui.console.ConsolePlugin;
 import org.eclipse.ui.console.IConsole;
@@ -85,6 +87,42 @@ public class PayaraConsoleManager {
 		return gfConsole;
 	}
 
+	/**
+	 * Returns console for showing the recent part of server.log history and
+	 * following the log afterwards. For the same server.log file there is only
+	 * one console at the time.
+	 *
+	 * @param server
+	 * @return
+	 */
+	public static IPayaraConsole getRecentServerLogConsole(PayaraServer server) {
+		String consoleID = createServerLogConsoleName(server) + " (recent)";
+		IPayaraConsole gfConsole = findConsole(consoleID);
+		if (gfConsole == null) {
+			gfConsole = new PayaraConsole(consoleID, createFilter(server));
+		}
+
+		return gfConsole;
+	}
+
+	/**
+	 * Returns console for showing only warnings and errors of server.log. For
+	 * the same server.log file there is only one console at the time.
+	 *
+	 * @param server
+	 * @return
+	 */
+	public static IPayaraConsole getServerLogWarningsConsole(PayaraServer server) {
+		String consoleID = createServerLogConsoleName(server) + " (warnings)";
+		IPayaraConsole gfConsole = findConsole(consoleID);
+		if (gfConsole == null) {
+			gfConsole = new PayaraConsole(consoleID, createFilter(server));
+			gfConsole.setFilterSpec(new LogFilterSpec().minLevel(WARNING));
+		}
+
+		return gfConsole;
+	}
+
 	/**
 	 * Creates new startup process console. There should be only one for a
 	 * particular Payara server.
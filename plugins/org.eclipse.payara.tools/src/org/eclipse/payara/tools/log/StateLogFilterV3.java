@@ -24,27 +24,81 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
 
+import org.eclipse.payara.tools.sdk.server.LogFilterSpec;
+
+/**
+ * Parses GlassFish 3 log records directly from UTF-8 encoded lines.
+ * <p>
+ * Record bytes are collected into a reused array and fields are kept as
+ * offsets into it. Strings are only created when a complete record is
+ * rendered, and only for the fields the formatter asks for. Records rejected
+ * by the filter specification are dropped before being formatted. Lines
+ * outside of records, like JVM warnings or output that bypassed the logger,
+ * are passed as they are.
+ */
 public class StateLogFilterV3 extends AbstractLogFilter {
 
+	private static final int FIELDS = 6;
+	private static final int MESSAGE_FIELD = 5;
+
+	private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSZ");
+
 	private int state;
 
+	/* Bytes of fields of record being read, separators are not stored */
+	private byte[] data = new byte[1024];
+	private int length;
+
+	/* Start and end offsets of fields in data, in GlassfishLogFields order */
+	private final int[] bounds = new int[2 * FIELDS];
+	private int field;
+
 	StateLogFilterV3() {
 		super();
 	}
 
+	@Override
+	public void reset() {
+		super.reset();
+		length = 0;
+		field = 0;
+	}
+
 	@Override
 	public String process(String line) {
-		if (line.equals(logRecordDelimeter) && !isReadingUserMessage()) {
+		byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+		return process(bytes, 0, bytes.length);
+	}
+
+	@Override
+	public String process(byte[] line, int offset, int count) {
+		if (count == 0 && !isReadingUserMessage()) {
 			reset();
 		}
 
 		String result = null;
-		for (char c : line.toCharArray()) {
-			result = process(c);
+		boolean outsideRecord = state < 3;
+		for (int i = offset, end = offset + count; i < end; i++) {
+			String processed = process(line[i]);
+			if (processed != null) {
+				result = processed;
+			}
+			if (state >= 3) {
+				outsideRecord = false;
+			}
+		}
+		process((byte) '\n');
+
+		// Line never got into a record, including partial "[" or "[#" starts
+		if (outsideRecord && count > 0) {
+			return new String(line, offset, count, StandardCharsets.UTF_8);
 		}
-		process('\n');
-		return result;// process('\n');
+		return result;
 	}
 
 	/**
@@ -55,148 +109,131 @@ public class StateLogFilterV3 extends AbstractLogFilter {
 	 * _ThreadID=11;_ThreadName=Thread-6;org.glassfish.admin.config-api [1794];|
 	 * Started bundle org.glassfish.admin.config-api [1794] |#]
 	 *
-	 * !PW FIXME This parser should be checked for I18N stability.
+	 * Field delimiters are ASCII, so multi-byte UTF-8 sequences are copied
+	 * through untouched. Text outside of records is not collected here, whole
+	 * lines outside of records are passed by the caller.
 	 */
-	public String process(char c) {
+	private String process(byte b) {
 		String result = null;
 
 		switch (state) {
 		case 0:
-			if (c == '[') {
+			if (b == '[') {
 				state = 1;
-			} else {
-				if (c == '\n') {
-					if (buffer.length() > 0) {
-						buffer.append(c);
-						result = buffer.toString();
-						buffer.setLength(0);
-					}
-				} else if (c != '\r') {
-					buffer.append(c);
-				}
 			}
 			break;
 		case 1:
-			if (c == '#') {
-				state = 2;
-			} else {
-				state = 0;
-				if (c == '\n') {
-					if (buffer.length() > 0) {
-						buffer.append(c);
-						result = buffer.toString();
-						buffer.setLength(0);
-					}
-				} else if (c != '\r') {
-					buffer.append('[');
-					buffer.append(c);
-				}
-			}
+			state = b == '#' ? 2 : b == '[' ? 1 : 0;
 			break;
 		case 2:
-			if (c == '|') {
+			if (b == '|') {
 				state = 3;
-				buffer.setLength(0);
+				length = 0;
+				field = 0;
+				bounds[0] = 0;
 			} else {
-				if (c == '\n') {
-					if (buffer.length() > 0) {
-						buffer.append(c);
-						result = buffer.toString();
-						buffer.setLength(0);
-					}
-				} else if (c != '\r') {
-					state = 0;
-					buffer.append('[');
-					buffer.append('#');
-					buffer.append(c);
-				}
+				state = b == '[' ? 1 : 0;
 			}
 			break;
 		case 3:
-			if (c == '|') {
-				state = 4;
-				record.setTime(buffer.toString());
-				buffer.setLength(0);
-			} else {
-				buffer.append(c);
-			}
-			break;
 		case 4:
-			if (c == '|') {
-				state = 5;
-				record.setLevel(levelResolver.resolve(buffer.toString()));
-				buffer.setLength(0);
-			} else {
-				buffer.append(c);
-			}
-			break;
 		case 5:
-			if (c == '|') {
-				state = 6;
-				record.setVersion(buffer.toString());
-				buffer.setLength(0);
-			} else {
-				buffer.append(c);
-			}
-			break;
 		case 6:
-			if (c == '|') {
-				state = 7;
-				record.setClassInfo(buffer.toString());
-				buffer.setLength(0);
-			} else {
-				buffer.append(c);
-			}
-			break;
 		case 7:
-			if (c == '|') {
-				state = 8;
-				record.setThreadInfo(buffer.toString());
-				buffer.setLength(0);
+			if (b == '|') {
+				endField();
+				state++;
 			} else {
-				buffer.append(c);
+				append(b);
 			}
 			break;
 		case 8: // reading message
-			if (c == '|') {
+			if (b == '|') {
 				state = 9;
-				record.setMessage(buffer.toString());
-			} else if (c == '\n') {
-				if (buffer.length() > 0) { // suppress blank lines in multiline messages
-					buffer.append('\n');
-					// result = !multiline ? type + ": " + buffer.toString() : buffer.toString();
-					// multiline = true;
-					// buffer.setLength(0);
+			} else if (b == '\n') {
+				if (length > bounds[2 * MESSAGE_FIELD]) { // suppress blank lines in multiline messages
+					append(b);
 				}
-			} else if (c != '\r') {
-				buffer.append(c);
+			} else if (b != '\r') {
+				append(b);
 			}
 			break;
 		case 9:
-			if (c == '#') {
+			if (b == '#') {
 				state = 10;
 			} else {
 				state = 8;
-				buffer.append('|');
-				buffer.append(c);
+				append((byte) '|');
+				result = process(b);
 			}
 			break;
 		case 10:
-			if (c == ']') {
+			if (b == ']') {
 				state = 0;
-				result = formatter.formatLogRecord(record);// (multiline ? message : type + ": " + message) + '\n';
+				endField();
+				result = render();
 				reset();
 			} else {
 				state = 8;
-				buffer.append('|');
-				buffer.append('#');
-				buffer.append(c);
+				append((byte) '|');
+				append((byte) '#');
+				result = process(b);
 			}
 			break;
 		}
 		return result;
 	}
 
+	private void append(byte b) {
+		if (length == data.length) {
+			data = Arrays.copyOf(data, data.length * 2);
+		}
+		data[length++] = b;
+	}
+
+	private void endField() {
+		bounds[2 * field + 1] = length;
+		if (++field < FIELDS) {
+			bounds[2 * field] = length;
+		}
+	}
+
+	private String render() {
+		record.setSource(data, bounds);
+		LogFilterSpec spec = filterSpec;
+		if (spec != null && !accepts(spec)) {
+			return null;
+		}
+		record.setLevel(levelResolver.resolve(record.getLevel()));
+		return formatter.formatLogRecord(record);
+	}
+
+	/**
+	 * Evaluates the filter specification on record fields, only the fields
+	 * the specification needs are decoded. Fields that can't be parsed don't
+	 * reject the record.
+	 */
+	private boolean accepts(LogFilterSpec spec) {
+		if (spec.getMinLevel() != null && !spec.acceptsLevel(record.getLevel())) {
+			return false;
+		}
+		if (!spec.acceptsLogger(record.getClassInfo().trim())) {
+			return false;
+		}
+		if (spec.getThread() != null && !spec.acceptsThread(record.getThreadInfo())) {
+			return false;
+		}
+		if (spec.hasTimeWindow()) {
+			try {
+				long timeMillis = OffsetDateTime.parse(record.getTime().trim(), TIME_FORMAT).toInstant().toEpochMilli();
+				return spec.acceptsTime(timeMillis);
+			} catch (DateTimeParseException e) {
+				return true;
+			}
+		}
+		return true;
+	}
+
 	public static void main(String[] args) throws IOException {
 		final InputStream stream = new FileInputStream("src/oracle/eclipse/tools/glassfish/log/logv4.txt");
 
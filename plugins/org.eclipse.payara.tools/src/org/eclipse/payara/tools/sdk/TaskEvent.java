@@ -54,6 +54,11 @@ public enum TaskEvent {
 	CMD_COMPLETED,
 	/** Server command failed. */
 	CMD_FAILED,
+	/**
+	 * Server command data upload progress. Listener arguments are server name,
+	 * command, bytes sent so far and total bytes to send.
+	 */
+	CMD_PROGRESS,
 	/**
 	 * Authorization failed on HTTP protocol level (401 or 403 response). This is
 	 * usually handled by java.net.Authenticator.
@@ -109,6 +114,9 @@ public enum TaskEvent {
 	/** A <code>String</code> representation of CMD_FAILED value. */
 	private static final String CMD_FAILED_STR = "CmdFailed";
 
+	/** A <code>String</code> representation of CMD_PROGRESS value. */
+	private static final String CMD_PROGRESS_STR = "CmdProgress";
+
 	/** A <code>String</code> representation of AUTH_FAILED_HTTP value. */
 	private static final String AUTH_FAILED_HTTP_STR = "AuthFailedHttp";
 
@@ -201,6 +209,8 @@ public enum TaskEvent {
 			return CMD_COMPLETED_STR;
 		case CMD_FAILED:
 			return CMD_FAILED_STR;
+		case CMD_PROGRESS:
+			return CMD_PROGRESS_STR;
 		case AUTH_FAILED_HTTP:
 			return AUTH_FAILED_HTTP_STR;
 		case AUTH_FAILED:
@@ -28,6 +28,27 @@ package org.eclipse.payara.tools.sdk.admin;
  */
 public abstract class Command {
 
+	////////////////////////////////////////////////////////////////////////////
+	// Inner classes //
+	////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * Administration command execution class.
+	 * <p/>
+	 * Selects executor lane used to run the command on target server.
+	 */
+	public enum ExecutionClass {
+
+		/** Command modifies server state. Executed in submission order. */
+		MUTATING,
+
+		/** Command only reads server state. May run in parallel. */
+		READ_ONLY,
+
+		/** Command waits for server data for longer time (e.g. log polling). */
+		LONG_POLL;
+	}
+
 	////////////////////////////////////////////////////////////////////////////
 	// Instance attributes //
 	////////////////////////////////////////////////////////////////////////////
@@ -83,4 +104,18 @@ public abstract class Command {
 		return retry;
 	}
 
+	/**
+	 * Returns execution class of this command.
+	 * <p/>
+	 * Commands are considered to modify server state by default, so they are
+	 * executed in submission order. Read only and long polling commands override
+	 * this to avoid waiting behind unrelated commands.
+	 * <p/>
+	 *
+	 * @return Execution class of this command.
+	 */
+	public ExecutionClass getExecutionClass() {
+		return ExecutionClass.MUTATING;
+	}
+
 }
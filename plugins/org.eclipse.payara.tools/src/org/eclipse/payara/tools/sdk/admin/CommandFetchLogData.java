@@ -79,4 +79,19 @@ public class CommandFetchLogData extends Command {
 		this.paramsAppendNext = paramsAppendNext;
 	}
 
+	////////////////////////////////////////////////////////////////////////////
+	// Methods //
+	////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * Log data are polled repeatedly so they get their own executor lane.
+	 * <p/>
+	 *
+	 * @return <code>ExecutionClass.LONG_POLL</code> value.
+	 */
+	@Override
+	public ExecutionClass getExecutionClass() {
+		return ExecutionClass.LONG_POLL;
+	}
+
 }
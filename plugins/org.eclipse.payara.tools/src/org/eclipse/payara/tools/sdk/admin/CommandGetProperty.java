@@ -124,4 +124,20 @@ public class CommandGetProperty extends Command {
 		super(COMMAND);
 		propertyPattern = property;
 	}
+
+	////////////////////////////////////////////////////////////////////////////
+	// Methods //
+	////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * Command only reads server state so it does not wait for mutating commands.
+	 * <p/>
+	 *
+	 * @return <code>ExecutionClass.READ_ONLY</code> value.
+	 */
+	@Override
+	public ExecutionClass getExecutionClass() {
+		return ExecutionClass.READ_ONLY;
+	}
+
 }
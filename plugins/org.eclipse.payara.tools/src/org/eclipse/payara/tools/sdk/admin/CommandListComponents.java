@@ -86,4 +86,19 @@ public class CommandListComponents extends CommandTarget {
 		super(COMMAND, target);
 	}
 
+	////////////////////////////////////////////////////////////////////////////
+	// Methods //
+	////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * Command only reads server state so it does not wait for mutating commands.
+	 * <p/>
+	 *
+	 * @return <code>ExecutionClass.READ_ONLY</code> value.
+	 */
+	@Override
+	public ExecutionClass getExecutionClass() {
+		return ExecutionClass.READ_ONLY;
+	}
+
 }
@@ -114,4 +114,20 @@ public class CommandListResources extends CommandTarget {
 	public CommandListResources(final String command, final String target) {
 		super(command, target);
 	}
+
+	////////////////////////////////////////////////////////////////////////////
+	// Methods //
+	////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * Command only reads server state so it does not wait for mutating commands.
+	 * <p/>
+	 *
+	 * @return <code>ExecutionClass.READ_ONLY</code> value.
+	 */
+	@Override
+	public ExecutionClass getExecutionClass() {
+		return ExecutionClass.READ_ONLY;
+	}
+
 }
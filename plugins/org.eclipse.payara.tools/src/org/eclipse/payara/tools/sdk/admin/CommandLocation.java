@@ -101,4 +101,19 @@ public class CommandLocation extends Command {
 		super(COMMAND);
 	}
 
+	////////////////////////////////////////////////////////////////////////////
+	// Methods //
+	////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * Command only reads server state so it does not wait for mutating commands.
+	 * <p/>
+	 *
+	 * @return <code>ExecutionClass.READ_ONLY</code> value.
+	 */
+	@Override
+	public ExecutionClass getExecutionClass() {
+		return ExecutionClass.READ_ONLY;
+	}
+
 }
@@ -0,0 +1,228 @@
+/******************************************************************************
+ * Copyright (c) 2020 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.eclipse.payara.tools.sdk.admin;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.eclipse.payara.tools.sdk.admin.ServerAdmin.exec;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Level;
+
+import org.eclipse.payara.tools.sdk.TaskState;
+import org.eclipse.payara.tools.sdk.logging.Logger;
+import org.eclipse.payara.tools.server.PayaraServer;
+
+/**
+ * Command that sets several properties on the server in single
+ * <code>set</code> invocation.
+ * <p/>
+ *
+ * @see CommandSetProperty
+ */
+@RunnerHttpClass(runner = RunnerHttpSetProperties.class)
+@RunnerRestClass(runner = RunnerRestSetProperties.class)
+public class CommandSetProperties extends Command {
+
+	////////////////////////////////////////////////////////////////////////////
+	// Inner classes //
+	////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * Outcome of setting single property.
+	 */
+	public static final class Outcome {
+
+		/** Outcome of successfully set property. */
+		private static final Outcome COMPLETED = new Outcome(TaskState.COMPLETED, null);
+
+		/** Execution state of command setting the property. */
+		private final TaskState state;
+
+		/** Exception thrown while waiting for command or <code>null</code>. */
+		private final Throwable cause;
+
+		private Outcome(final TaskState state, final Throwable cause) {
+			this.state = state;
+			this.cause = cause;
+		}
+
+		/**
+		 * Get execution state of command setting the property.
+		 * <p/>
+		 *
+		 * @return Execution state, <code>TaskState.FAILED</code> when execution
+		 *         failed or timed out.
+		 */
+		public TaskState getState() {
+			return state;
+		}
+
+		/**
+		 * Get exception thrown while waiting for command setting the property.
+		 * <p/>
+		 *
+		 * @return Exception or <code>null</code> when command finished.
+		 */
+		public Throwable getCause() {
+			return cause;
+		}
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	// Class attributes //
+	////////////////////////////////////////////////////////////////////////////
+
+	/** Logger instance for this class. */
+	private static final Logger LOGGER = new Logger(CommandSetProperties.class);
+
+	/** Command string for set command. */
+	private static final String COMMAND = "set";
+
+	/**
+	 * Maximal number of single property commands executed in parallel when server
+	 * rejects batched form.
+	 */
+	static final int FALLBACK_PARALLELISM = 4;
+
+	////////////////////////////////////////////////////////////////////////////
+	// Static methods //
+	////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * Put properties to server.
+	 * <p/>
+	 * All properties are sent in single <code>set</code> invocation. When server
+	 * rejects batched form, properties are set one by one using
+	 * {@link CommandSetProperty} executed with bounded parallelism.
+	 * <p/>
+	 *
+	 * @param server     GlassFish server entity.
+	 * @param properties Property names and values to set.
+	 * @param timeout    Administration command execution timeout [ms].
+	 * @return Outcome of each property. Property which could not be set has other
+	 *         state than <code>TaskState.COMPLETED</code>.
+	 */
+	public static Map<String, Outcome> setProperties(final PayaraServer server, final Map<String, String> properties,
+			final long timeout) {
+		final String METHOD = "setProperties";
+		Map<String, Outcome> outcomes = new LinkedHashMap<>();
+		if (properties.isEmpty()) {
+			return outcomes;
+		}
+		Outcome batchOutcome = execute(server, new CommandSetProperties(properties), timeout);
+		if (batchOutcome.state == TaskState.COMPLETED) {
+			for (String property : properties.keySet()) {
+				outcomes.put(property, Outcome.COMPLETED);
+			}
+			return outcomes;
+		}
+		if (properties.size() == 1) {
+			outcomes.put(properties.keySet().iterator().next(), batchOutcome);
+			return outcomes;
+		}
+		LOGGER.log(Level.FINE, METHOD, "fallback", Integer.toString(properties.size()));
+		ExecutorService executor = ServerAdmin.executor(Math.min(FALLBACK_PARALLELISM, properties.size()));
+		try {
+			Map<String, Future<ResultString>> futures = new LinkedHashMap<>();
+			for (Map.Entry<String, String> entry : properties.entrySet()) {
+				futures.put(entry.getKey(),
+						exec(executor, server, new CommandSetProperty(entry.getKey(), entry.getValue())));
+			}
+			for (Map.Entry<String, Future<ResultString>> entry : futures.entrySet()) {
+				outcomes.put(entry.getKey(), await(entry.getValue(), timeout));
+			}
+		} finally {
+			executor.shutdown();
+		}
+		return outcomes;
+	}
+
+	/**
+	 * Execute command and wait for its execution state.
+	 * <p/>
+	 *
+	 * @param server  GlassFish server entity.
+	 * @param command Command to execute.
+	 * @param timeout Administration command execution timeout [ms].
+	 * @return Outcome of command.
+	 */
+	private static Outcome execute(final PayaraServer server, final Command command, final long timeout) {
+		Future<ResultString> future = exec(server, command);
+		return await(future, timeout);
+	}
+
+	/**
+	 * Wait for administration command execution state.
+	 * <p/>
+	 *
+	 * @param future  Administration command execution result.
+	 * @param timeout Administration command execution timeout [ms].
+	 * @return Outcome of command, <code>TaskState.FAILED</code> with the cause
+	 *         when execution failed or timed out.
+	 */
+	private static Outcome await(final Future<ResultString> future, final long timeout) {
+		final String METHOD = "await";
+		try {
+			TaskState state = future.get(timeout, MILLISECONDS).getState();
+			return state == TaskState.COMPLETED ? Outcome.COMPLETED : new Outcome(state, null);
+		} catch (InterruptedException ie) {
+			Thread.currentThread().interrupt();
+			LOGGER.log(Level.INFO, METHOD, "exception", ie);
+			return new Outcome(TaskState.FAILED, ie);
+		} catch (ExecutionException | CancellationException | TimeoutException ex) {
+			LOGGER.log(Level.INFO, METHOD, "exception", ex);
+			return new Outcome(TaskState.FAILED, ex);
+		}
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	// Instance attributes //
+	////////////////////////////////////////////////////////////////////////////
+
+	/** Names and values of the properties to set. */
+	final Map<String, String> properties;
+
+	////////////////////////////////////////////////////////////////////////////
+	// Constructors //
+	////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * Constructs an instance of GlassFish server set properties command entity.
+	 * <p/>
+	 *
+	 * @param properties Names and values of the properties to set.
+	 */
+	public CommandSetProperties(final Map<String, String> properties) {
+		super(COMMAND);
+		this.properties = Collections.unmodifiableMap(new LinkedHashMap<>(properties));
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	// Getters //
+	////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * Get names and values of the properties to set.
+	 * <p/>
+	 *
+	 * @return Names and values of the properties to set.
+	 */
+	public Map<String, String> getProperties() {
+		return properties;
+	}
+
+}
@@ -21,8 +21,10 @@ package org.eclipse.payara.tools.sdk.admin;
 import static org.eclipse.payara.tools.sdk.TaskEvent.SUBMIT;
 import static org.eclipse.payara.tools.sdk.TaskState.READY;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.Authenticator;
 import java.net.ConnectException;
 import java.net.HttpURLConnection;
@@ -33,10 +35,10 @@ import java.net.Proxy;
 import java.net.URL;
 import java.net.URLConnection;
 import java.net.UnknownHostException;
-import java.security.KeyManagementException;
-import java.security.NoSuchAlgorithmException;
-import java.security.cert.CertificateException;
-import java.security.cert.X509Certificate;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
@@ -45,11 +47,6 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.logging.Level;
 
-import javax.net.ssl.HttpsURLConnection;
-import javax.net.ssl.SSLContext;
-import javax.net.ssl.TrustManager;
-import javax.net.ssl.X509TrustManager;
-
 import org.eclipse.payara.tools.sdk.GlassFishToolsConfig;
 import org.eclipse.payara.tools.sdk.TaskEvent;
 import org.eclipse.payara.tools.sdk.TaskState;
@@ -146,6 +143,9 @@ public abstract class Runner implements Callable<Result> {
 	/** Delay before administration command execution will be retried. */
 	public static final int HTTP_RETRY_DELAY = 3000;
 
+	/** Size of file chunk transferred to server before progress is reported. */
+	static final long UPLOAD_CHUNK_SIZE = 1024 * 1024;
+
 	/** Character used to separate query string from list of parameters. */
 	static final char QUERY_SEPARATOR = '?';
 
@@ -164,12 +164,6 @@ public abstract class Runner implements Callable<Result> {
 	/** <code>String</code> value for <code>false</code>. */
 	static final String FALSE_VALUE = "false";
 
-	/**
-	 * Executor used to serialize administration commands passed to GlassFish
-	 * server.
-	 */
-	private static volatile ExecutorService executor;
-
 	/* Global password authenticator for GlassFish servers. */
 	private static volatile Authenticator authenticator;
 
@@ -177,27 +171,6 @@ public abstract class Runner implements Callable<Result> {
 	// Static methods //
 	////////////////////////////////////////////////////////////////////////////
 
-	/**
-	 * Returns shared <code>Executor</code> instance to serialize administration
-	 * commands passed to GlassFish server.
-	 * <p/>
-	 * <code>Executor</code> instance is handled internally.
-	 * <p/>
-	 *
-	 * @return Shared <code>Executor</code> instance.
-	 */
-	static ExecutorService serializedExecutor() {
-		if (executor != null) {
-			return executor;
-		}
-		synchronized (Runner.class) {
-			if (executor == null) {
-				executor = Executors.newFixedThreadPool(1);
-			}
-		}
-		return executor;
-	}
-
 	/**
 	 * Allows to initialize this class to use external <code>Authenticator</code>.
 	 * <p/>
@@ -524,6 +497,20 @@ public abstract class Runner implements Callable<Result> {
 		return null;
 	}
 
+	/**
+	 * Override to send data to the server in fixed-length streaming mode. Default
+	 * is <code>-1</code> (length is not known in advance, chunked streaming mode
+	 * is used).
+	 * <p/>
+	 *
+	 * @return Exact number of bytes sent to server via HTTP POST or
+	 *         <code>-1</code> when unknown.
+	 * @throws IOException when length can't be computed.
+	 */
+	protected long getContentLength() throws IOException {
+		return -1;
+	}
+
 	/**
 	 * Construct string containing <code>Command</code> string with
 	 * <code>query</code> parameters appended.
@@ -628,13 +615,16 @@ public abstract class Runner implements Callable<Result> {
 	/**
 	 * Execute an arbitrary server command.
 	 * <p/>
+	 * Command is passed to executor lane of target server selected by command
+	 * execution class.
+	 * <p/>
 	 *
 	 * @return <code>Future</code> object to retrieve receiveResult of asynchronous
 	 *         execution.
 	 */
 	Future<? extends Result> execute() {
 		setReadyState();
-		return serializedExecutor().submit(this);
+		return RunnerLanes.executor(server, command).submit(this);
 	}
 
 	/**
@@ -679,7 +669,17 @@ public abstract class Runner implements Callable<Result> {
 		String contentType = getContentType();
 		if (contentType != null && contentType.length() > 0) {
 			conn.setRequestProperty("Content-Type", contentType);
-			conn.setChunkedStreamingMode(0);
+			long contentLength;
+			try {
+				contentLength = getContentLength();
+			} catch (IOException ioe) {
+				throw new CommandException(CommandException.RUNNER_HTTP_HEADERS, ioe);
+			}
+			if (contentLength >= 0) {
+				conn.setFixedLengthStreamingMode(contentLength);
+			} else {
+				conn.setChunkedStreamingMode(0);
+			}
 		}
 		if (adminPassword != null && adminPassword.length() > 0) {
 			String authString = ServerUtils.basicAuthCredentials(adminUser, adminPassword);
@@ -691,38 +691,31 @@ public abstract class Runner implements Callable<Result> {
 		}
 	}
 
-	protected void handleSecureConnection(final HttpsURLConnection conn) {
-		final String METHOD = "handleSecureConnection";
-		// let's just trust any server that we connect to...
-		// we aren't send them money or secrets...
-		TrustManager[] tm = new TrustManager[] { new X509TrustManager() {
-
-			@Override
-			public void checkClientTrusted(X509Certificate[] arg0, String arg1) throws CertificateException {
-			}
-
-			@Override
-			public void checkServerTrusted(X509Certificate[] arg0, String arg1) throws CertificateException {
-			}
-
-			@Override
-			public X509Certificate[] getAcceptedIssuers() {
-				return null;
+	/**
+	 * Stream file content to the server.
+	 * <p/>
+	 * File is transferred straight from disk without intermediate heap buffers.
+	 * Registered state listeners are notified about upload progress with
+	 * <code>TaskEvent.CMD_PROGRESS</code> event after every transferred chunk.
+	 * <p/>
+	 *
+	 * @param file File to send.
+	 * @param out  Target stream. Stream is flushed but not closed.
+	 * @throws IOException when file can't be read or sent.
+	 */
+	protected void transferFile(final File file, final OutputStream out) throws IOException {
+		WritableByteChannel target = Channels.newChannel(out);
+		try (FileChannel source = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			long size = source.size();
+			String total = Long.toString(size);
+			long position = 0;
+			while (position < size) {
+				position += source.transferTo(position, Math.min(UPLOAD_CHUNK_SIZE, size - position), target);
+				handleStateChange(TaskState.RUNNING, TaskEvent.CMD_PROGRESS, server.getName(), command.getCommand(),
+						Long.toString(position), total);
 			}
-		} };
-
-		SSLContext context;
-		try {
-			context = SSLContext.getInstance("SSL");
-			context.init(null, tm, null);
-			conn.setSSLSocketFactory(context.getSocketFactory());
-			conn.setHostnameVerifier((string, ssls) -> true);
-		} catch (NoSuchAlgorithmException | KeyManagementException ex) {
-			// if there is an issue here... there will be another exception
-			// later which will take care of the user interaction...
-			LOGGER.log(Level.INFO, METHOD, "issue", conn.getURL());
-			LOGGER.log(Level.INFO, METHOD, "exception", ex);
 		}
+		out.flush();
 	}
 
 	protected boolean handleReceive(final HttpURLConnection hconn) throws IOException {
@@ -809,9 +802,7 @@ public abstract class Runner implements Callable<Result> {
 		do { // deal with possible redirects from 3.1
 			oldUrlToConnectTo = urlToConnectTo;
 			hconn = (HttpURLConnection) conn;
-			if (conn instanceof HttpsURLConnection) {
-				handleSecureConnection((HttpsURLConnection) conn);
-			}
+			RunnerTransport.prepare(server, hconn);
 			prepareHttpConnection(hconn);
 			LOGGER.log(Level.FINEST, METHOD, "connect",
 					new Object[] { server.getHost(), Integer.toString(server.getAdminPort()) });
@@ -898,7 +889,7 @@ public abstract class Runner implements Callable<Result> {
 
 	/**
 	 * GlassFish server administration command execution call. This is an entry
-	 * point from <code>executor<code>'s serialization queue.
+	 * point from <code>executor<code>'s queue.
 	 * <p/>
 	 *
 	 * @return Task execution state.
@@ -963,8 +954,9 @@ public abstract class Runner implements Callable<Result> {
 								stateChangeArgs(ex.getLocalizedMessage()));
 					}
 				} finally {
+					// Keep connection alive when response was fully read.
 					if (null != hconn) {
-						hconn.disconnect();
+						RunnerTransport.release(hconn, httpSucceeded);
 					}
 				}
 
@@ -18,13 +18,17 @@
 
 package org.eclipse.payara.tools.sdk.admin;
 
-import java.io.BufferedOutputStream;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.HttpURLConnection;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 import java.util.logging.Level;
+import java.util.zip.CRC32;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
@@ -75,6 +79,35 @@ public class RunnerHttpDeploy extends RunnerHttp {
 	/** Deploy command <code>force</code> parameter value. */
 	private static final boolean FORCE_VALUE = true;
 
+	/** Entry size from which ZIP64 extensions change ZIP stream overhead. */
+	private static final long ZIP64_LIMIT = 0xFFFFFFFFL;
+
+	/** Direct buffer size used to compute CRC of deployed file. */
+	private static final int CRC_BUFFER_SIZE = 64 * 1024;
+
+	////////////////////////////////////////////////////////////////////////////
+	// Inner classes //
+	////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * Output stream discarding data and counting written bytes.
+	 */
+	private static final class CountingOutputStream extends OutputStream {
+
+		/** Number of written bytes. */
+		private long count;
+
+		@Override
+		public void write(int b) {
+			count++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			count += len;
+		}
+	}
+
 	////////////////////////////////////////////////////////////////////////////
 	// Static methods //
 	////////////////////////////////////////////////////////////////////////////
@@ -153,6 +186,9 @@ public class RunnerHttpDeploy extends RunnerHttp {
 	@SuppressWarnings("FieldNameHidesFieldInSuperclass")
 	final CommandDeploy command;
 
+	/** Stored ZIP entry of deployed file. */
+	private ZipEntry entry;
+
 	////////////////////////////////////////////////////////////////////////////
 	// Constructors //
 	////////////////////////////////////////////////////////////////////////////
@@ -204,34 +240,23 @@ public class RunnerHttpDeploy extends RunnerHttp {
 	 * This is based on reading the code of <code>CLIRemoteCommand.java</code> from
 	 * the server's code repository. Since some asadmin commands need to send
 	 * multiple files, the server assumes the input is a ZIP stream.
+	 * <p/>
+	 * Deployed archive is already compressed so it is sent as stored (not
+	 * compressed) ZIP entry streamed directly from disk.
 	 */
 	@Override
 	protected void handleSend(HttpURLConnection hconn) throws IOException {
 		final String METHOD = "handleSend";
-		InputStream istream = getInputStream();
-		if (istream != null) {
+		if (!command.dirDeploy) {
 			ZipOutputStream ostream = null;
 			try {
-				ostream = new ZipOutputStream(new BufferedOutputStream(hconn.getOutputStream(), 1024 * 1024));
-				ZipEntry e = new ZipEntry(command.path.getName());
-				e.setExtra(getExtraProperties());
-				ostream.putNextEntry(e);
-				byte buffer[] = new byte[1024 * 1024];
-				while (true) {
-					int n = istream.read(buffer);
-					if (n < 0) {
-						break;
-					}
-					ostream.write(buffer, 0, n);
-				}
+				ostream = new ZipOutputStream(hconn.getOutputStream());
+				ostream.putNextEntry(entry());
+				transferFile(command.path, ostream);
 				ostream.closeEntry();
+				ostream.finish();
 				ostream.flush();
 			} finally {
-				try {
-					istream.close();
-				} catch (IOException ex) {
-					LOGGER.log(Level.INFO, METHOD, "ioException", ex);
-				}
 				if (ostream != null) {
 					try {
 						ostream.close();
@@ -245,6 +270,78 @@ public class RunnerHttpDeploy extends RunnerHttp {
 		}
 	}
 
+	/**
+	 * Get exact size of ZIP stream sent to server, so request body may be sent in
+	 * fixed-length streaming mode.
+	 * <p/>
+	 * ZIP stream overhead (headers and central directory) is measured by writing
+	 * empty entry with the same name and extra field to counting stream.
+	 * <p/>
+	 *
+	 * @return Size of ZIP stream sent to server or <code>-1</code> for directory
+	 *         deployment and archives requiring ZIP64 extensions.
+	 * @throws IOException when deployed file can't be read.
+	 */
+	@Override
+	protected long getContentLength() throws IOException {
+		if (command.dirDeploy) {
+			return -1;
+		}
+		ZipEntry e = entry();
+		if (e.getSize() >= ZIP64_LIMIT) {
+			return -1;
+		}
+		ZipEntry empty = new ZipEntry(e.getName());
+		empty.setMethod(ZipEntry.STORED);
+		empty.setTime(e.getTime());
+		empty.setExtra(e.getExtra());
+		empty.setSize(0);
+		empty.setCompressedSize(0);
+		empty.setCrc(0);
+		CountingOutputStream counter = new CountingOutputStream();
+		try (ZipOutputStream zos = new ZipOutputStream(counter)) {
+			zos.putNextEntry(empty);
+			zos.closeEntry();
+		}
+		return counter.count + e.getSize();
+	}
+
+	/**
+	 * Get stored ZIP entry of deployed file.
+	 * <p/>
+	 * Stored entry must know its size and CRC before data are written so CRC is
+	 * computed reading the file from disk without copying it to heap. Entry is
+	 * computed only once, content length and sent data must match.
+	 * <p/>
+	 *
+	 * @return Stored ZIP entry of deployed file.
+	 * @throws IOException when deployed file can't be read.
+	 */
+	private ZipEntry entry() throws IOException {
+		if (entry == null) {
+			ZipEntry e = new ZipEntry(command.path.getName());
+			e.setMethod(ZipEntry.STORED);
+			e.setTime(command.path.lastModified());
+			e.setExtra(getExtraProperties());
+			CRC32 crc = new CRC32();
+			long size = 0;
+			try (FileChannel channel = FileChannel.open(command.path.toPath(), StandardOpenOption.READ)) {
+				ByteBuffer buffer = ByteBuffer.allocateDirect(CRC_BUFFER_SIZE);
+				while (channel.read(buffer) >= 0) {
+					buffer.flip();
+					size += buffer.remaining();
+					crc.update(buffer);
+					buffer.clear();
+				}
+			}
+			e.setSize(size);
+			e.setCompressedSize(size);
+			e.setCrc(crc.getValue());
+			entry = e;
+		}
+		return entry;
+	}
+
 	////////////////////////////////////////////////////////////////////////////
 	// Fake Getters //
 	////////////////////////////////////////////////////////////////////////////
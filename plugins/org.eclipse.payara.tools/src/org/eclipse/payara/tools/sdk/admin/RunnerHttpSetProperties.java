@@ -0,0 +1,59 @@
+/******************************************************************************
+ * Copyright (c) 2020 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.eclipse.payara.tools.sdk.admin;
+
+import java.util.Map;
+
+import org.eclipse.payara.tools.server.PayaraServer;
+
+/**
+ * Runner executes set properties command via HTTP interface.
+ * <p/>
+ * Every property is passed as separate <code>DEFAULT</code> operand.
+ * <p/>
+ */
+public class RunnerHttpSetProperties extends RunnerHttp {
+
+	/**
+	 * Creates query string from command object properties.
+	 * <p/>
+	 *
+	 * @param command GlassFish server administration command entity.
+	 * @return Query string from command object properties.
+	 */
+	private static String query(CommandSetProperties command) {
+		StringBuilder sb = new StringBuilder();
+		for (Map.Entry<String, String> entry : command.properties.entrySet()) {
+			if (sb.length() > 0) {
+				sb.append(PARAM_SEPARATOR);
+			}
+			sb.append("DEFAULT").append(PARAM_ASSIGN_VALUE).append(entry.getKey()).append(PARAM_ASSIGN_VALUE)
+					.append(entry.getValue());
+		}
+		return sb.toString();
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	// Constructors //
+	////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * Constructs an instance of administration command executor using HTTP
+	 * interface.
+	 * <p/>
+	 *
+	 * @param server  GlassFish server entity object.
+	 * @param command GlassFish server administration command entity.
+	 */
+	public RunnerHttpSetProperties(final PayaraServer server, final Command command) {
+		super(server, command, query((CommandSetProperties) command));
+	}
+
+}
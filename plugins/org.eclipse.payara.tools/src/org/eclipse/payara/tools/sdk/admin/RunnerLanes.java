@@ -0,0 +1,228 @@
+/******************************************************************************
+ * Copyright (c) 2020 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.eclipse.payara.tools.sdk.admin;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.payara.tools.sdk.admin.Command.ExecutionClass;
+import org.eclipse.payara.tools.server.PayaraServer;
+
+/**
+ * Payara server administration command executor lanes.
+ * <p/>
+ * Every Payara server gets its own lane, so slow command sent to one server
+ * does not block commands sent to other servers. Each lane is split by
+ * {@link ExecutionClass}:
+ * <ul>
+ * <li>mutating commands are executed by single thread in submission
+ * order,</li>
+ * <li>read only commands are executed in parallel by small thread pool,</li>
+ * <li>long polling commands are executed by their own single thread.</li>
+ * </ul>
+ * Lane threads are released when idle, so unused lanes do not hold any
+ * threads.
+ * <p/>
+ */
+final class RunnerLanes {
+
+	////////////////////////////////////////////////////////////////////////////
+	// Inner classes //
+	////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * Payara server administration command executor lane threads factory.
+	 */
+	private static final class ThreadFactory implements java.util.concurrent.ThreadFactory {
+
+		/** Thread name prefix. */
+		private static final String THREAD_NAME = "Payara Admin Command";
+
+		/** {@link ThreadGroup} of constructed thread. */
+		private static final ThreadGroup threadGroup = initThreadGroup();
+
+		/**
+		 * Finds or creates {@link ThreadGroup} for constructed threads.
+		 * <p/>
+		 *
+		 * @return {@link ThreadGroup} for constructed threads.
+		 */
+		private static ThreadGroup initThreadGroup() {
+			ThreadGroup tg = Thread.currentThread().getThreadGroup();
+			if (tg != null) {
+				ThreadGroup tgParent;
+				while ((tgParent = tg.getParent()) != null) {
+					tg = tgParent;
+				}
+			}
+			return new ThreadGroup(tg, THREAD_NAME);
+		}
+
+		/** Name of constructed threads. */
+		private final String name;
+
+		/**
+		 * Constructs an instance of lane threads factory.
+		 * <p/>
+		 *
+		 * @param serverName     Name of server the lane belongs to.
+		 * @param executionClass Execution class of the lane.
+		 */
+		private ThreadFactory(final String serverName, final ExecutionClass executionClass) {
+			this.name = THREAD_NAME + " [" + serverName + ", " + executionClass + "]";
+		}
+
+		/**
+		 * Constructs a new {@link Thread}.
+		 * <p/>
+		 *
+		 * @param r A runnable to be executed by new {@link Thread} instance.
+		 * @return Constructed thread.
+		 */
+		@Override
+		public Thread newThread(final Runnable r) {
+			Thread t = new Thread(threadGroup, r, name);
+			t.setDaemon(true);
+			return t;
+		}
+	}
+
+	/**
+	 * Executor lane of single Payara server.
+	 */
+	private static final class Lane {
+
+		/** Executors for individual command execution classes. */
+		private final Map<ExecutionClass, ExecutorService> executors = new EnumMap<>(ExecutionClass.class);
+
+		/**
+		 * Constructs an instance of Payara server executor lane.
+		 * <p/>
+		 *
+		 * @param serverName Name of server the lane belongs to.
+		 */
+		private Lane(final String serverName) {
+			for (ExecutionClass executionClass : ExecutionClass.values()) {
+				executors.put(executionClass, newExecutor(serverName, executionClass));
+			}
+		}
+
+		/**
+		 * Get executor for given command execution class.
+		 * <p/>
+		 *
+		 * @param executionClass Command execution class.
+		 * @return Executor for given command execution class.
+		 */
+		private ExecutorService get(final ExecutionClass executionClass) {
+			return executors.get(executionClass);
+		}
+
+		/**
+		 * Shut down all executors of this lane.
+		 */
+		private void shutdown() {
+			for (ExecutorService executor : executors.values()) {
+				executor.shutdown();
+			}
+		}
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	// Class attributes //
+	////////////////////////////////////////////////////////////////////////////
+
+	/** Read only commands thread pool size. */
+	static final int READ_ONLY_POOL_SIZE = 3;
+
+	/** Time after which idle lane thread is released (in seconds). */
+	private static final long KEEP_ALIVE_TIME = 60;
+
+	/** Executor lanes mapped to server ID. */
+	private static final Map<String, Lane> lanes = new ConcurrentHashMap<>();
+
+	////////////////////////////////////////////////////////////////////////////
+	// Static methods //
+	////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * Get executor to run given command on given server.
+	 * <p/>
+	 *
+	 * @param server  Target Payara server.
+	 * @param command Payara server administration command entity.
+	 * @return Executor to run given command on given server.
+	 */
+	static ExecutorService executor(final PayaraServer server, final Command command) {
+		return lanes.computeIfAbsent(laneKey(server), key -> new Lane(server.getName()))
+				.get(command.getExecutionClass());
+	}
+
+	/**
+	 * Remove executor lane of given server.
+	 * <p/>
+	 * Commands already submitted to removed lane are still finished.
+	 * <p/>
+	 *
+	 * @param serverId ID of server which lane shall be removed.
+	 */
+	static void remove(final String serverId) {
+		Lane lane = lanes.remove(serverId);
+		if (lane != null) {
+			lane.shutdown();
+		}
+	}
+
+	/**
+	 * Get key of executor lane of given server.
+	 * <p/>
+	 * Server working copies share lane with original server.
+	 * <p/>
+	 *
+	 * @param server Payara server.
+	 * @return Executor lane key.
+	 */
+	private static String laneKey(final PayaraServer server) {
+		return server.getServer().getId();
+	}
+
+	/**
+	 * Constructs executor for given command execution class.
+	 * <p/>
+	 *
+	 * @param serverName     Name of server the executor belongs to.
+	 * @param executionClass Command execution class.
+	 * @return Executor for given command execution class.
+	 */
+	private static ExecutorService newExecutor(final String serverName, final ExecutionClass executionClass) {
+		int poolSize = executionClass == ExecutionClass.READ_ONLY ? READ_ONLY_POOL_SIZE : 1;
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, KEEP_ALIVE_TIME, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<Runnable>(), new ThreadFactory(serverName, executionClass));
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	// Constructors //
+	////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * Do not instantiate.
+	 */
+	private RunnerLanes() {
+		throw new UnsupportedOperationException();
+	}
+
+}
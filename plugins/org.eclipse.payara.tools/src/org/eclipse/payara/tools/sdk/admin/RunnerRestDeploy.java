@@ -18,7 +18,6 @@
 
 package org.eclipse.payara.tools.sdk.admin;
 
-import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
@@ -26,6 +25,7 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.net.HttpURLConnection;
+import java.nio.charset.StandardCharsets;
 import java.util.logging.Level;
 
 import org.eclipse.payara.tools.sdk.PayaraIdeException;
@@ -45,6 +45,9 @@ public class RunnerRestDeploy extends RunnerRest {
 
 	private String multipartBoundary = Long.toHexString(System.currentTimeMillis());
 
+	/** Multipart request body head, computed once for content length and send. */
+	private byte[] multipartHead;
+
 	/** Holding data for command execution. */
 	@SuppressWarnings("FieldNameHidesFieldInSuperclass")
 	final CommandDeploy command;
@@ -80,6 +83,9 @@ public class RunnerRestDeploy extends RunnerRest {
 	 * This is based on reading the code of <code>CLIRemoteCommand.java</code> from
 	 * the server's code repository. Since some asadmin commands need to send
 	 * multiple files, the server assumes the input is a ZIP stream.
+	 * <p/>
+	 * Deployed file is streamed directly from disk between multipart head and
+	 * tail.
 	 */
 	@Override
 	protected void handleSend(HttpURLConnection hconn) throws IOException {
@@ -87,22 +93,14 @@ public class RunnerRestDeploy extends RunnerRest {
 		if (command.path == null) {
 			throw new PayaraIdeException("The path attribute of deploy command" + " has to be non-empty!");
 		}
-		OutputStreamWriter wr = new OutputStreamWriter(hconn.getOutputStream());
 		if (!command.dirDeploy) {
-			writeParam(wr, "path", command.path.getAbsolutePath());
-			if (command.name != null) {
-				writeParam(wr, "name", command.name);
-			}
-			if (command.contextRoot != null) {
-				writeParam(wr, "contextroot", command.contextRoot);
+			try (OutputStream output = hconn.getOutputStream()) {
+				output.write(multipartHead());
+				transferFile(command.path, output);
+				output.write(multipartTail());
 			}
-			if (command.target != null) {
-				writeParam(wr, "target", command.target);
-			}
-
-			writeBinaryFile(wr, hconn.getOutputStream(), command.path);
-			wr.append("--" + multipartBoundary + "--").append(NEWLINE);
 		} else {
+			OutputStreamWriter wr = new OutputStreamWriter(hconn.getOutputStream());
 			wr.write("path=" + command.path.toString());
 			if (command.name != null) {
 				wr.write("&");
@@ -116,46 +114,74 @@ public class RunnerRestDeploy extends RunnerRest {
 				wr.write("&");
 				wr.write("target=" + command.target);
 			}
+			wr.close();
 		}
-
-		wr.close();
 	}
 
-	private void writeParam(OutputStreamWriter writer, String paramName, String paramValue) throws IOException {
-		writer.append("--" + multipartBoundary).append(NEWLINE);
-		writer.append("Content-Disposition: form-data; name=\"").append(paramName).append("\"").append(NEWLINE);
-		writer.append("Content-Type: text/plain;").append(NEWLINE);
-		writer.append(NEWLINE);
-		writer.append(paramValue).append(NEWLINE).flush();
+	/**
+	 * Get exact size of multipart request body, so it may be sent in fixed-length
+	 * streaming mode.
+	 * <p/>
+	 *
+	 * @return Size of multipart request body or <code>-1</code> for directory
+	 *         deployment.
+	 */
+	@Override
+	protected long getContentLength() {
+		if (command.dirDeploy || command.path == null) {
+			return -1;
+		}
+		return multipartHead().length + command.path.length() + multipartTail().length;
 	}
 
-	private void writeBinaryFile(OutputStreamWriter writer, OutputStream output, File file) throws IOException {
-		writer.append("--" + multipartBoundary).append(NEWLINE);
-		// writer.append("Content-Disposition: form-data; name=\"warFile\"; filename=\""
-		// + file.getAbsolutePath() + "\"").append(NEWLINE);
-		writer.append("Content-Type: application/octet-stream").append(NEWLINE);
-		writer.append("Content-Transfer-Encoding: binary").append(NEWLINE);
-		writer.append(NEWLINE).flush();
-
-		InputStream input = null;
-		try {
-			input = new FileInputStream(file);
-			byte[] buffer = new byte[1024 * 1024];
-			for (int length; (length = input.read(buffer)) > 0;) {
-				output.write(buffer, 0, length);
+	/**
+	 * Get multipart request body part preceding deployed file content.
+	 * <p/>
+	 * Contains all command parameters and binary file part headers.
+	 * <p/>
+	 *
+	 * @return Multipart request body head.
+	 */
+	private byte[] multipartHead() {
+		if (multipartHead == null) {
+			StringBuilder sb = new StringBuilder();
+			appendParam(sb, "path", command.path.getAbsolutePath());
+			if (command.name != null) {
+				appendParam(sb, "name", command.name);
 			}
-			output.flush(); // Important! Output cannot be closed. Close of writer will close output as
-							// well.
-		} finally {
-			if (input != null) {
-				try {
-					input.close();
-				} catch (IOException ex) {
-				}
+			if (command.contextRoot != null) {
+				appendParam(sb, "contextroot", command.contextRoot);
+			}
+			if (command.target != null) {
+				appendParam(sb, "target", command.target);
 			}
+			sb.append("--").append(multipartBoundary).append(NEWLINE);
+			sb.append("Content-Type: application/octet-stream").append(NEWLINE);
+			sb.append("Content-Transfer-Encoding: binary").append(NEWLINE);
+			sb.append(NEWLINE);
+			multipartHead = sb.toString().getBytes(StandardCharsets.UTF_8);
 		}
-		writer.append(NEWLINE).flush();
+		return multipartHead;
+	}
+
+	/**
+	 * Get multipart request body part following deployed file content.
+	 * <p/>
+	 *
+	 * @return Multipart request body tail.
+	 */
+	private byte[] multipartTail() {
+		return (NEWLINE + "--" + multipartBoundary + "--" + NEWLINE).getBytes(StandardCharsets.UTF_8);
+	}
+
+	private void appendParam(StringBuilder sb, String paramName, String paramValue) {
+		sb.append("--").append(multipartBoundary).append(NEWLINE);
+		sb.append("Content-Disposition: form-data; name=\"").append(paramName).append("\"").append(NEWLINE);
+		sb.append("Content-Type: text/plain;").append(NEWLINE);
+		sb.append(NEWLINE);
+		sb.append(paramValue).append(NEWLINE);
 	}
+
 	////////////////////////////////////////////////////////////////////////////
 	// Fake Getters //
 	////////////////////////////////////////////////////////////////////////////
@@ -0,0 +1,62 @@
+/******************************************************************************
+ * Copyright (c) 2020 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.eclipse.payara.tools.sdk.admin;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.net.HttpURLConnection;
+import java.util.Map;
+
+import org.eclipse.payara.tools.server.PayaraServer;
+
+/**
+ * Runner executes set properties command via REST interface.
+ * <p/>
+ * Every property is sent as separate <code>values</code> parameter.
+ * <p/>
+ */
+public class RunnerRestSetProperties extends RunnerRest {
+
+	////////////////////////////////////////////////////////////////////////////
+	// Constructors //
+	////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * Constructs an instance of administration command executor using REST
+	 * interface.
+	 * <p/>
+	 *
+	 * @param server  GlassFish server entity object.
+	 * @param command GlassFish server administration command entity.
+	 */
+	public RunnerRestSetProperties(final PayaraServer server, final Command command) {
+		super(server, command, "/command/", null);
+	}
+
+	@Override
+	protected void handleSend(HttpURLConnection hconn) throws IOException {
+		OutputStreamWriter wr = new OutputStreamWriter(hconn.getOutputStream());
+		CommandSetProperties spCommand = (CommandSetProperties) command;
+		StringBuilder data = new StringBuilder();
+		for (Map.Entry<String, String> entry : spCommand.properties.entrySet()) {
+			if (data.length() > 0) {
+				data.append(PARAM_SEPARATOR);
+			}
+			data.append("values=");
+			data.append(entry.getKey());
+			data.append("=\"");
+			data.append(entry.getValue());
+			data.append("\"");
+		}
+		wr.write(data.toString());
+		wr.flush();
+		wr.close();
+	}
+}
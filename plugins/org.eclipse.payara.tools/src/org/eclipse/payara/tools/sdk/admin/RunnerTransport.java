@@ -0,0 +1,359 @@
+/******************************************************************************
+ * Copyright (c) 2020 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.eclipse.payara.tools.sdk.admin;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.security.KeyManagementException;
+import java.security.NoSuchAlgorithmException;
+import java.security.cert.X509Certificate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSocketFactory;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509TrustManager;
+
+import org.eclipse.payara.tools.sdk.logging.Logger;
+import org.eclipse.payara.tools.server.PayaraServer;
+
+/**
+ * Payara server administration HTTP transport.
+ * <p/>
+ * Keeps per server transport state shared by all runners:
+ * <ul>
+ * <li>single SSL socket factory, so TLS sessions are resumed instead of full
+ * handshake on every command,</li>
+ * <li>request and connection counters.</li>
+ * </ul>
+ * HTTP connections are kept alive by JDK connection cache. Runners only must
+ * not disconnect connections after successfully read response.
+ * <p/>
+ */
+public final class RunnerTransport {
+
+	////////////////////////////////////////////////////////////////////////////
+	// Inner classes //
+	////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * Payara server transport statistics.
+	 */
+	public static final class Statistics {
+
+		/** Number of HTTP requests sent to server. */
+		private final long requests;
+
+		/** Number of new TLS connections opened to server. */
+		private final long connections;
+
+		/**
+		 * Constructs an instance of Payara server transport statistics.
+		 * <p/>
+		 *
+		 * @param requests    Number of HTTP requests sent to server.
+		 * @param connections Number of new TLS connections opened to server.
+		 */
+		private Statistics(final long requests, final long connections) {
+			this.requests = requests;
+			this.connections = connections;
+		}
+
+		/**
+		 * Get number of HTTP requests sent to server.
+		 * <p/>
+		 *
+		 * @return Number of HTTP requests sent to server.
+		 */
+		public long getRequests() {
+			return requests;
+		}
+
+		/**
+		 * Get number of new TLS connections opened to server.
+		 * <p/>
+		 * Plain HTTP connections are opened by JDK internally and are not counted.
+		 * <p/>
+		 *
+		 * @return Number of new TLS connections opened to server.
+		 */
+		public long getConnections() {
+			return connections;
+		}
+
+		/**
+		 * Get number of HTTPS requests which reused already opened connection.
+		 * <p/>
+		 *
+		 * @return Number of requests which reused already opened connection.
+		 */
+		public long getReused() {
+			return connections > 0 ? Math.max(requests - connections, 0) : 0;
+		}
+
+		@Override
+		public String toString() {
+			return "requests=" + requests + ", connections=" + connections + ", reused=" + getReused();
+		}
+	}
+
+	/**
+	 * Transport state of single Payara server administration interface.
+	 */
+	private static final class Channel {
+
+		/** Number of HTTP requests sent to server. */
+		private final AtomicLong requests = new AtomicLong();
+
+		/** Number of new TLS connections opened to server. */
+		private final AtomicLong connections = new AtomicLong();
+
+		/** Socket factory shared by all HTTPS connections to server. */
+		private volatile SSLSocketFactory socketFactory;
+
+		/**
+		 * Get socket factory shared by all HTTPS connections to server.
+		 * <p/>
+		 *
+		 * @return Socket factory shared by all HTTPS connections to server or
+		 *         <code>null</code> when SSL context can't be initialized.
+		 */
+		private SSLSocketFactory socketFactory() {
+			if (socketFactory == null) {
+				synchronized (this) {
+					if (socketFactory == null) {
+						SSLContext context = trustingContext();
+						if (context != null) {
+							socketFactory = new CountingSocketFactory(context.getSocketFactory(), connections);
+						}
+					}
+				}
+			}
+			return socketFactory;
+		}
+	}
+
+	/**
+	 * SSL socket factory counting created sockets.
+	 */
+	private static final class CountingSocketFactory extends SSLSocketFactory {
+
+		/** Socket factory to create sockets. */
+		private final SSLSocketFactory delegate;
+
+		/** Created sockets counter. */
+		private final AtomicLong counter;
+
+		/**
+		 * Constructs an instance of SSL socket factory counting created sockets.
+		 * <p/>
+		 *
+		 * @param delegate Socket factory to create sockets.
+		 * @param counter  Created sockets counter.
+		 */
+		private CountingSocketFactory(final SSLSocketFactory delegate, final AtomicLong counter) {
+			this.delegate = delegate;
+			this.counter = counter;
+		}
+
+		@Override
+		public String[] getDefaultCipherSuites() {
+			return delegate.getDefaultCipherSuites();
+		}
+
+		@Override
+		public String[] getSupportedCipherSuites() {
+			return delegate.getSupportedCipherSuites();
+		}
+
+		@Override
+		public Socket createSocket() throws IOException {
+			counter.incrementAndGet();
+			return delegate.createSocket();
+		}
+
+		@Override
+		public Socket createSocket(Socket s, String host, int port, boolean autoClose) throws IOException {
+			counter.incrementAndGet();
+			return delegate.createSocket(s, host, port, autoClose);
+		}
+
+		@Override
+		public Socket createSocket(String host, int port) throws IOException {
+			counter.incrementAndGet();
+			return delegate.createSocket(host, port);
+		}
+
+		@Override
+		public Socket createSocket(String host, int port, InetAddress localHost, int localPort) throws IOException {
+			counter.incrementAndGet();
+			return delegate.createSocket(host, port, localHost, localPort);
+		}
+
+		@Override
+		public Socket createSocket(InetAddress host, int port) throws IOException {
+			counter.incrementAndGet();
+			return delegate.createSocket(host, port);
+		}
+
+		@Override
+		public Socket createSocket(InetAddress address, int port, InetAddress localAddress, int localPort)
+				throws IOException {
+			counter.incrementAndGet();
+			return delegate.createSocket(address, port, localAddress, localPort);
+		}
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	// Class attributes //
+	////////////////////////////////////////////////////////////////////////////
+
+	/** Logger instance for this class. */
+	private static final Logger LOGGER = new Logger(RunnerTransport.class);
+
+	/** Transport state mapped to server administration interface address. */
+	private static final Map<String, Channel> channels = new ConcurrentHashMap<>();
+
+	////////////////////////////////////////////////////////////////////////////
+	// Static methods //
+	////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * Prepare connection to Payara server administration interface for sending
+	 * request.
+	 * <p/>
+	 * HTTPS connections get shared socket factory trusting any server we connect
+	 * to.
+	 * <p/>
+	 *
+	 * @param server Target Payara server.
+	 * @param conn   Connection to prepare.
+	 */
+	public static void prepare(final PayaraServer server, final HttpURLConnection conn) {
+		final String METHOD = "prepare";
+		Channel channel = channel(server);
+		channel.requests.incrementAndGet();
+		if (conn instanceof HttpsURLConnection) {
+			HttpsURLConnection sconn = (HttpsURLConnection) conn;
+			SSLSocketFactory socketFactory = channel.socketFactory();
+			if (socketFactory != null) {
+				sconn.setSSLSocketFactory(socketFactory);
+				sconn.setHostnameVerifier((string, ssls) -> true);
+			} else {
+				LOGGER.log(Level.INFO, METHOD, "issue", conn.getURL());
+			}
+		}
+	}
+
+	/**
+	 * Release connection after request was finished.
+	 * <p/>
+	 * Connection which response was fully read is left open to be reused by
+	 * following requests. Any other connection is drained and closed.
+	 * <p/>
+	 *
+	 * @param conn     Connection to release.
+	 * @param reusable Response was fully read and connection may be reused.
+	 */
+	public static void release(final HttpURLConnection conn, final boolean reusable) {
+		if (reusable) {
+			return;
+		}
+		InputStream err = conn.getErrorStream();
+		if (err != null) {
+			try {
+				err.close();
+			} catch (IOException ioe) {
+				// Connection is closed below.
+			}
+		}
+		conn.disconnect();
+	}
+
+	/**
+	 * Get transport statistics of Payara server administration interface.
+	 * <p/>
+	 *
+	 * @param server Payara server.
+	 * @return Transport statistics of given server.
+	 */
+	public static Statistics statistics(final PayaraServer server) {
+		Channel channel = channel(server);
+		return new Statistics(channel.requests.get(), channel.connections.get());
+	}
+
+	/**
+	 * Get transport state of Payara server administration interface.
+	 * <p/>
+	 *
+	 * @param server Payara server.
+	 * @return Transport state of given server.
+	 */
+	private static Channel channel(final PayaraServer server) {
+		return channels.computeIfAbsent(server.getHost() + ':' + server.getAdminPort(), key -> new Channel());
+	}
+
+	/**
+	 * Constructs SSL context trusting any server we connect to.
+	 * <p/>
+	 * We aren't sending them money or secrets...
+	 * <p/>
+	 *
+	 * @return SSL context trusting any server or <code>null</code> when context
+	 *         can't be initialized.
+	 */
+	private static SSLContext trustingContext() {
+		final String METHOD = "trustingContext";
+		TrustManager[] tm = new TrustManager[] { new X509TrustManager() {
+
+			@Override
+			public void checkClientTrusted(X509Certificate[] arg0, String arg1) {
+			}
+
+			@Override
+			public void checkServerTrusted(X509Certificate[] arg0, String arg1) {
+			}
+
+			@Override
+			public X509Certificate[] getAcceptedIssuers() {
+				return null;
+			}
+		} };
+		try {
+			SSLContext context = SSLContext.getInstance("SSL");
+			context.init(null, tm, null);
+			return context;
+		} catch (NoSuchAlgorithmException | KeyManagementException ex) {
+			// if there is an issue here... there will be another exception
+			// later which will take care of the user interaction...
+			LOGGER.log(Level.INFO, METHOD, "exception", ex);
+			return null;
+		}
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	// Constructors //
+	////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * Do not instantiate.
+	 */
+	private RunnerTransport() {
+		throw new UnsupportedOperationException();
+	}
+
+}
@@ -73,10 +73,33 @@ public class ServerAdmin {
 		return Runner.parallelExecutor(size);
 	}
 
+	/**
+	 * Get administration interface transport statistics of Payara server.
+	 * <p/>
+	 *
+	 * @param payaraServer Payara server.
+	 * @return Transport statistics of given server.
+	 */
+	public static RunnerTransport.Statistics transportStatistics(final PayaraServer payaraServer) {
+		return RunnerTransport.statistics(payaraServer);
+	}
+
+	/**
+	 * Release internal executor lane of removed Payara server.
+	 * <p/>
+	 *
+	 * @param serverId ID of removed Payara server.
+	 */
+	public static void release(final String serverId) {
+		RunnerLanes.remove(serverId);
+	}
+
 	/**
 	 * Execute remote administration command on GlassFish server.
 	 * <p>
-	 * Execution of administration command is serialized using internal executor.
+	 * Execution of administration command is handled by internal executor lane of
+	 * target server. Mutating commands are serialized, read only and long polling
+	 * commands run independently of them.
 	 * <p>
 	 *
 	 * @param payaraServer Target GlassFish server.
@@ -147,7 +170,8 @@ public class ServerAdmin {
 	/**
 	 * Execute remote administration command on GlassFish server.
 	 * <p>
-	 * Execution of administration command is serialized using internal executor.
+	 * Execution of administration command is handled by internal executor lane of
+	 * target server.
 	 * <p>
 	 *
 	 * @param payaraServer Target GlassFish server.
@@ -87,6 +87,24 @@ public abstract class FetchLog {
 		this.skip = skip;
 	}
 
+	/**
+	 * Constructs an instance of GlassFish server log fetcher using provided input
+	 * stream.
+	 * <p/>
+	 * <code>InputStream</code> is set using constructor argument. Child class
+	 * <code>initInputStream</code> method is ignored.
+	 * <p/>
+	 *
+	 * @param server GlassFish server for fetching server log.
+	 * @param in     Input stream used to read server log.
+	 * @param skip   Skip to the end of the log file.
+	 */
+	FetchLog(PayaraServer server, InputStream in, boolean skip) {
+		this.server = server;
+		this.in = in;
+		this.skip = skip;
+	}
+
 	/**
 	 * Constructs an instance of GlassFish server log fetcher.
 	 * <p/>
@@ -118,6 +136,17 @@ public abstract class FetchLog {
 		return this.in;
 	}
 
+	/**
+	 * Check if log fetcher passes log content written before it was started.
+	 * <p/>
+	 *
+	 * @return Value of <code>true</code> when existing log is passed before new
+	 *         log lines.
+	 */
+	public boolean isReplaying() {
+		return !skip;
+	}
+
 	////////////////////////////////////////////////////////////////////////////
 	// Methods //
 	////////////////////////////////////////////////////////////////////////////
@@ -18,13 +18,28 @@
 
 package org.eclipse.payara.tools.sdk.server;
 
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 
 import org.eclipse.payara.tools.sdk.TaskState;
@@ -35,6 +50,15 @@ import org.eclipse.payara.tools.server.PayaraServer;
 /**
  * Fetch GlassFish log from local server.
  * <p/>
+ * Active log file is read trough <code>FileChannel</code> as soon as logs
+ * directory <code>WatchService</code> reports a change. Log rotation is detected
+ * by file key (inode) of log file path changing or by log file shrinking below
+ * read position. Refresh delay is used only as an upper bound of waiting for
+ * file system events, which may be delivered late on some platforms.
+ * <p/>
+ * When started at {@link LogIndex.Position}, rotated log files from that
+ * position on are passed first and the active log file is followed afterwards.
+ * <p/>
  *
  * @author Tomas Kraus, Peter Benedikovic
  */
@@ -47,6 +71,89 @@ public class FetchLogLocal extends FetchLogPiped {
 	/** Logger instance for this class. */
 	private static final Logger LOGGER = new Logger(FetchLogLocal.class);
 
+	/** Size of direct buffers used to read log file. */
+	private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+	/** Maximal count of pooled direct read buffers. */
+	private static final int READ_BUFFER_POOL_SIZE = 4;
+
+	/** Direct read buffers shared by local log fetchers. */
+	private static final Queue<ByteBuffer> READ_BUFFERS = new ConcurrentLinkedQueue<>();
+
+	////////////////////////////////////////////////////////////////////////////
+	// Static methods //
+	////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * Get direct read buffer from pool or allocate new one when pool is empty.
+	 * <p/>
+	 *
+	 * @return Cleared direct read buffer.
+	 */
+	private static ByteBuffer acquireBuffer() {
+		ByteBuffer buffer = READ_BUFFERS.poll();
+		if (buffer == null) {
+			buffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+		}
+		buffer.clear();
+		return buffer;
+	}
+
+	/**
+	 * Return direct read buffer to pool.
+	 * <p/>
+	 *
+	 * @param buffer Direct read buffer no longer used.
+	 */
+	private static void releaseBuffer(final ByteBuffer buffer) {
+		if (READ_BUFFERS.size() < READ_BUFFER_POOL_SIZE) {
+			READ_BUFFERS.offer(buffer);
+		}
+	}
+
+	/**
+	 * Get key identifying file behind given path.
+	 * <p/>
+	 * File key (inode on Unix) is used when file system provides it, file
+	 * creation time otherwise.
+	 * <p/>
+	 *
+	 * @param file File path.
+	 * @return Key identifying file or <code>null</code> when file does not exist.
+	 */
+	static Object fileKey(final Path file) {
+		try {
+			BasicFileAttributes attrs = Files.readAttributes(file, BasicFileAttributes.class);
+			return attrs.fileKey() != null ? attrs.fileKey() : attrs.creationTime();
+		} catch (IOException ioe) {
+			return null;
+		}
+	}
+
+	/**
+	 * Close log file channel.
+	 * <p/>
+	 *
+	 * @param channel Log file channel to close, may be <code>null</code>.
+	 */
+	private static void closeChannel(final FileChannel channel) {
+		final String METHOD = "closeChannel";
+		if (channel != null) {
+			try {
+				channel.close();
+			} catch (IOException ioe) {
+				LOGGER.log(Level.INFO, METHOD, "cantClose", ioe);
+			}
+		}
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	// Instance attributes //
+	////////////////////////////////////////////////////////////////////////////
+
+	/** Position in log history to start at or <code>null</code>. */
+	private final LogIndex.Position start;
+
 	////////////////////////////////////////////////////////////////////////////
 	// Constructors //
 	////////////////////////////////////////////////////////////////////////////
@@ -54,27 +161,43 @@ public class FetchLogLocal extends FetchLogPiped {
 	/**
 	 * Constructs an instance of GlassFish local server log fetcher.
 	 * <p/>
-	 * Super class constructor will call <code>initInputStream</code> method which
-	 * initializes <code>InputStream</code> as <code>FileInputStream</code> before
-	 * this constructor code is being executed.
+	 * Log data are passed to log reader trough given buffer.
 	 * <p/>
 	 *
 	 * @param server GlassFish server for fetching local server log. Both
 	 *               <code>getDomainsFolder</code> and <code>getDomainName</code>
 	 *               should not return null.
 	 * @param skip   Skip to the end of the log file.
+	 * @param buffer Buffer passing log data to log reader.
 	 */
-	FetchLogLocal(final PayaraServer server, final boolean skip) {
-		super(server, skip);
+	FetchLogLocal(final PayaraServer server, final boolean skip, final LogRingBuffer buffer) {
+		super(server, skip, buffer);
+		this.start = null;
+	}
+
+	/**
+	 * Constructs an instance of GlassFish local server log fetcher starting at
+	 * given position in log history.
+	 * <p/>
+	 * Log data are passed to log reader trough given buffer.
+	 * <p/>
+	 *
+	 * @param server GlassFish server for fetching local server log. Both
+	 *               <code>getDomainsFolder</code> and <code>getDomainName</code>
+	 *               should not return null.
+	 * @param start  Position of first record to pass.
+	 * @param buffer Buffer passing log data to log reader.
+	 */
+	FetchLogLocal(final PayaraServer server, final LogIndex.Position start, final LogRingBuffer buffer) {
+		super(server, false, buffer);
+		this.start = start;
 	}
 
 	/**
 	 * Constructs an instance of GlassFish local server log fetcher with external
 	 * {@link ExecutorService}.
 	 * <p/>
-	 * Super class constructor will call <code>initInputStream</code> method which
-	 * initializes <code>InputStream</code> as <code>FileInputStream</code> before
-	 * this constructor code is being executed.
+	 * Log data are passed to log reader trough given buffer.
 	 * <p/>
 	 *
 	 * @param executor Executor service used to start task.
@@ -82,9 +205,12 @@ public class FetchLogLocal extends FetchLogPiped {
 	 *                 <code>getDomainsFolder</code> and <code>getDomainName</code>
 	 *                 should not return null.
 	 * @param skip     Skip to the end of the log file.
+	 * @param buffer   Buffer passing log data to log reader.
 	 */
-	FetchLogLocal(final ExecutorService executor, final PayaraServer server, final boolean skip) {
-		super(executor, server, skip);
+	FetchLogLocal(final ExecutorService executor, final PayaraServer server, final boolean skip,
+			final LogRingBuffer buffer) {
+		super(executor, server, skip, buffer);
+		this.start = null;
 	}
 
 	////////////////////////////////////////////////////////////////////////////
@@ -92,39 +218,104 @@ public class FetchLogLocal extends FetchLogPiped {
 	////////////////////////////////////////////////////////////////////////////
 
 	/**
-	 * Initializes active log file <code>InputStream</code> as
-	 * <code>FileInputStream</code> sending data from local server log file.
+	 * Opens active log file channel.
+	 * <p/>
+	 *
+	 * @param logFile Active log file.
+	 * @param toEnd   Position channel at the end of the log file.
+	 * @return Log file channel or <code>null</code> when log file does not exist.
+	 */
+	private FileChannel openLogFile(final Path logFile, final boolean toEnd) {
+		return openLogFile(logFile, toEnd ? Long.MAX_VALUE : 0);
+	}
+
+	/**
+	 * Opens log file channel at given position.
 	 * <p/>
 	 *
-	 * @return <code>FileInputStream</code> where log lines from server active log
-	 *         file will be available to read.
+	 * @param logFile  Log file.
+	 * @param position Channel position, end of the log file when larger than
+	 *                 log file.
+	 * @return Log file channel or <code>null</code> when log file does not exist.
 	 */
-	private InputStream initInputFile() {
-		final String METHOD = "initInputFile";
-		File logFile = ServerUtils.getServerLogFile(server);
-		InputStream log;
+	private FileChannel openLogFile(final Path logFile, final long position) {
+		final String METHOD = "openLogFile";
+		FileChannel channel;
 		try {
-			log = new FileInputStream(logFile);
-		} catch (FileNotFoundException fnfe) {
-			LOGGER.log(Level.INFO, METHOD, "fileNotFound", logFile.getAbsolutePath());
+			channel = FileChannel.open(logFile, StandardOpenOption.READ);
+		} catch (NoSuchFileException nsfe) {
 			return null;
+		} catch (IOException ioe) {
+			throw new FetchLogException(LOGGER.excMsg(METHOD, "cantInit"), ioe);
 		}
-		if (skip) {
-			int count;
+		if (position > 0) {
 			try {
-				while ((count = log.available()) > 0) {
-					log.skip(count);
-				}
+				channel.position(Math.min(position, channel.size()));
 			} catch (IOException ioe) {
+				closeChannel(channel);
+				throw new FetchLogException(LOGGER.excMsg(METHOD, "cantInit"), ioe);
+			}
+		}
+		return channel;
+	}
+
+	/**
+	 * Pass rotated log files from start position on to log reader.
+	 * <p/>
+	 *
+	 * @param logFile Active log file, not passed.
+	 * @param buffer  Direct read buffer.
+	 * @param bytes   Array used to pass read bytes to output stream.
+	 * @return Position in active log file to continue at.
+	 * @throws IOException when reading or writing failed.
+	 */
+	private long replay(final Path logFile, final ByteBuffer buffer, final byte[] bytes) throws IOException {
+		final String METHOD = "replay";
+		List<Path> files = new ArrayList<>();
+		files.add(start.getFile());
+		files.addAll(start.getFollowingFiles());
+		long position = start.getOffset();
+		for (Path file : files) {
+			if (file.equals(logFile)) {
+				return position;
+			}
+			LOGGER.log(Level.FINER, METHOD, "file", new Object[] { file.toString(), position });
+			FileChannel channel = openLogFile(file, position);
+			if (channel != null) {
 				try {
-					log.close();
-				} catch (IOException ioec) {
-					LOGGER.log(Level.INFO, METHOD, "cantClose", ioec);
+					drain(channel, buffer, bytes);
+				} finally {
+					closeChannel(channel);
 				}
-				throw new FetchLogException(LOGGER.excMsg(METHOD, "cantInit"), ioe);
 			}
+			position = 0;
+		}
+		return position;
+	}
+
+	/**
+	 * Pass all bytes available in log file channel to log reader.
+	 * <p/>
+	 *
+	 * @param channel Log file channel.
+	 * @param buffer  Direct read buffer.
+	 * @param bytes   Array used to pass read bytes to output stream.
+	 * @throws IOException when reading or writing failed.
+	 */
+	private void drain(final FileChannel channel, final ByteBuffer buffer, final byte[] bytes) throws IOException {
+		final String METHOD = "drain";
+		boolean read = false;
+		for (int count; (count = channel.read(buffer)) > 0;) {
+			LOGGER.log(Level.FINEST, METHOD, "read", new Object[] { count });
+			buffer.flip();
+			buffer.get(bytes, 0, count);
+			buffer.clear();
+			out.write(bytes, 0, count);
+			read = true;
+		}
+		if (read) {
+			out.flush();
 		}
-		return log;
 	}
 
 	////////////////////////////////////////////////////////////////////////////
@@ -132,81 +323,78 @@ public class FetchLogLocal extends FetchLogPiped {
 	////////////////////////////////////////////////////////////////////////////
 
 	/**
-	 * Remote server log lines reading task.
+	 * Local server log lines reading task.
 	 * <p/>
-	 * Reads new log lines from server using GlassFish remote administration API and
-	 * sends them into pipe (<code>PipedInputStream</code>).
+	 * Reads new log lines from active server log file and sends them into
+	 * {@link LogRingBuffer}. Waits for logs directory changes between reads.
 	 * <p/>
 	 *
-	 * @return <code>TaskState.COMPLETED</code> when remote administration API
-	 *         stopped responding or <code>TaskState.FAILED</code> when exception
-	 *         was caught.
+	 * @return <code>TaskState.COMPLETED</code> when task was stopped or
+	 *         <code>TaskState.FAILED</code> when exception was caught.
 	 */
-	@SuppressWarnings("SleepWhileInLoop")
 	@Override
 	public TaskState call() {
 		final String METHOD = "call";
 		notifyListeners(TaskState.RUNNING);
-		InputStream fIn = initInputFile();
-		byte[] buff = new byte[PIPE_BUFFER_SIZE];
-		File logFile = ServerUtils.getServerLogFile(server);
-		int inCount;
-		long lastModified;
-		if (fIn == null) {
-			return notifyListeners(TaskState.FAILED);
-		}
-		while (taksExecute) {
-			try {
-				inCount = fIn.available();
-				lastModified = logFile.lastModified();
-				// Nothing to read. Check log rotation after delay.
-				if (inCount <= 0) {
-					Thread.sleep(LOG_REFRESH_DELAY);
-					inCount = fIn.available();
-					if (inCount <= 0 && logFile.lastModified() > lastModified) {
+		Path logFile = ServerUtils.getServerLogFile(server).toPath().toAbsolutePath();
+		ByteBuffer buffer = acquireBuffer();
+		byte[] bytes = new byte[READ_BUFFER_SIZE];
+		FileChannel channel = null;
+		Object fileKey = null;
+		try (WatchService watcher = logFile.getFileSystem().newWatchService()) {
+			channel = start != null ? openLogFile(logFile, replay(logFile, buffer, bytes)) : openLogFile(logFile, skip);
+			if (channel == null) {
+				LOGGER.log(Level.INFO, METHOD, "fileNotFound", logFile.toString());
+				return notifyListeners(TaskState.FAILED);
+			}
+			fileKey = fileKey(logFile);
+			logFile.getParent().register(watcher, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+			while (taksExecute) {
+				if (channel == null) {
+					// Rotated log file was not created yet.
+					channel = openLogFile(logFile, false);
+					fileKey = fileKey(logFile);
+				}
+				if (channel != null) {
+					drain(channel, buffer, bytes);
+					Object currentKey = fileKey(logFile);
+					// Path points to another file or file was truncated.
+					if (currentKey != null
+							&& (!currentKey.equals(fileKey) || channel.size() < channel.position())) {
 						LOGGER.log(Level.FINER, METHOD, "rotation");
-						fIn.close();
-						out.flush();
-
-						fIn = initInputFile();
+						// Pick up last lines written before rotation.
+						drain(channel, buffer, bytes);
+						closeChannel(channel);
+						channel = null;
+						continue;
 					}
 				}
-				if (inCount > 0) {
-					while (inCount > 0) {
-						int count = fIn.read(buff);
-						LOGGER.log(Level.FINEST, METHOD, "read", new Object[] { new Integer(count) });
-						if (count > 0) {
-							out.write(buff, 0, count);
-							inCount -= count;
-						} else {
-							// Return -1: If log file is rotated, the original file handle is no longer
-							// valid
-							break;
-						}
-						if (inCount <= 0) {
-							inCount = fIn.available();
-						}
-					}
-					out.flush();
+				WatchKey key = watcher.poll(LOG_REFRESH_DELAY, TimeUnit.MILLISECONDS);
+				if (key != null) {
+					// Any event means something to read, events themselves are not needed.
+					key.pollEvents();
+					key.reset();
 				}
-			} catch (InterruptedException ie) {
-				LOGGER.log(Level.INFO, METHOD, "interrupted", ie.getMessage());
-				Thread.currentThread().interrupt();
-				return notifyListeners(TaskState.COMPLETED);
-			} catch (InterruptedIOException ie) {
-				LOGGER.log(Level.INFO, METHOD, "interruptedIO", ie.getMessage());
-				Thread.currentThread().interrupt();
+			}
+		} catch (InterruptedException ie) {
+			LOGGER.log(Level.INFO, METHOD, "interrupted", ie.getMessage());
+			Thread.currentThread().interrupt();
+			return notifyListeners(TaskState.COMPLETED);
+		} catch (InterruptedIOException | ClosedByInterruptException ie) {
+			LOGGER.log(Level.INFO, METHOD, "interruptedIO", ie.getMessage());
+			Thread.currentThread().interrupt();
+			return notifyListeners(TaskState.COMPLETED);
+		} catch (IOException ioe) {
+			if (taksExecute) {
+				LOGGER.log(Level.INFO, METHOD, "ioException", ioe);
+				return notifyListeners(TaskState.FAILED);
+			} else {
+				LOGGER.log(Level.INFO, METHOD, "ioExceptionMsg", ioe.getMessage());
 				return notifyListeners(TaskState.COMPLETED);
-			} catch (IOException ioe) {
-				if (taksExecute) {
-					LOGGER.log(Level.INFO, METHOD, "ioException", ioe);
-					return notifyListeners(TaskState.FAILED);
-				} else {
-					LOGGER.log(Level.INFO, METHOD, "ioExceptionMsg", ioe.getMessage());
-					return notifyListeners(TaskState.COMPLETED);
-				}
 			}
-
+		} finally {
+			closeChannel(channel);
+			releaseBuffer(buffer);
 		}
 		return notifyListeners(TaskState.COMPLETED);
 	}
@@ -20,8 +20,7 @@ package org.eclipse.payara.tools.sdk.server;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.PipedInputStream;
-import java.io.PipedOutputStream;
+import java.io.OutputStream;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
@@ -42,8 +41,8 @@ import org.eclipse.payara.tools.server.PayaraServer;
 /**
  * Fetch GlassFish log from local or remote server.
  * <p/>
- * Data are fetched in service thread and passed into
- * <code>PipedOutputStream</code>.
+ * Data are fetched in service thread and passed to log reader trough
+ * {@link LogRingBuffer}.
  * <p/>
  *
  * @author Tomas Kraus, Peter Benedikovic
@@ -57,9 +56,6 @@ public abstract class FetchLogPiped extends FetchLog implements Callable<TaskSta
 	/** Logger instance for this class. */
 	private static final Logger LOGGER = new Logger(FetchLogPiped.class);
 
-	/** Size of internal buffer in pipe input stream. */
-	static final int PIPE_BUFFER_SIZE = 8192;
-
 	/** Log refresh delay in miliseconds. */
 	static final int LOG_REFRESH_DELAY = 1000;
 
@@ -81,7 +77,31 @@ public abstract class FetchLogPiped extends FetchLog implements Callable<TaskSta
 	 */
 	public static FetchLogPiped create(final PayaraServer server, final boolean skip) {
 		boolean isLocal = NetUtils.isLocahost(server.getHost());
-		FetchLogPiped fetchLog = isLocal ? new FetchLogLocal(server, skip) : new FetchLogRemote(server, skip);
+		LogRingBuffer buffer = new LogRingBuffer(LogRingBuffer.DEFAULT_CAPACITY);
+		FetchLogPiped fetchLog = isLocal ? new FetchLogLocal(server, skip, buffer)
+				: new FetchLogRemote(server, skip, buffer);
+		fetchLog.start();
+		return fetchLog;
+	}
+
+	/**
+	 * Constructs an instance of GlassFish server log fetcher starting at given
+	 * position in local server log history.
+	 * <p/>
+	 * Records from given position on are passed, including rotated log files, and
+	 * active log file is followed afterwards. Remote server log has no history
+	 * index and is passed whole.
+	 * <p/>
+	 *
+	 * @param server GlassFish server for fetching server log.
+	 * @param start  Position found by {@link LogIndex}.
+	 * @return Newly created <code>FetchLog</code> instance.
+	 */
+	public static FetchLogPiped create(final PayaraServer server, final LogIndex.Position start) {
+		boolean isLocal = NetUtils.isLocahost(server.getHost());
+		LogRingBuffer buffer = new LogRingBuffer(LogRingBuffer.DEFAULT_CAPACITY);
+		FetchLogPiped fetchLog = isLocal ? new FetchLogLocal(server, start, buffer)
+				: new FetchLogRemote(server, false, buffer);
 		fetchLog.start();
 		return fetchLog;
 	}
@@ -117,8 +137,9 @@ public abstract class FetchLogPiped extends FetchLog implements Callable<TaskSta
 	 */
 	public static FetchLogPiped create(final ExecutorService executor, final PayaraServer server, final boolean skip) {
 		boolean isLocal = NetUtils.isLocahost(server.getHost());
-		FetchLogPiped fetchLog = isLocal ? new FetchLogLocal(executor, server, skip)
-				: new FetchLogRemote(executor, server, skip);
+		LogRingBuffer buffer = new LogRingBuffer(LogRingBuffer.DEFAULT_CAPACITY);
+		FetchLogPiped fetchLog = isLocal ? new FetchLogLocal(executor, server, skip, buffer)
+				: new FetchLogRemote(executor, server, skip, buffer);
 		fetchLog.start();
 		return fetchLog;
 	}
@@ -144,8 +165,11 @@ public abstract class FetchLogPiped extends FetchLog implements Callable<TaskSta
 	// Instance attributes //
 	////////////////////////////////////////////////////////////////////////////
 
+	/** Buffer passing retrieved server log to log reader. */
+	private final LogRingBuffer buffer;
+
 	/** Output stream where to write retrieved remote server log. */
-	final PipedOutputStream out;
+	final OutputStream out;
 
 	/** Running task that reads log lines from remote server. */
 	Future<TaskState> task;
@@ -169,26 +193,19 @@ public abstract class FetchLogPiped extends FetchLog implements Callable<TaskSta
 	/**
 	 * Constructs an instance of GlassFish remote server log fetcher.
 	 * <p/>
-	 * Super class constructor will call <code>initInputStream</code> method which
-	 * initializes <code>InputStream</code> as <code>PipedInputStream</code> before
-	 * this constructor code is being executed. Here we can simply connect already
-	 * initialized <code>PipedInputStream</code> with newly created
-	 * <code>PipedInputStream</code>.
+	 * Input stream of given buffer is passed to super class constructor, retrieved
+	 * log data are written into output stream of the same buffer.
 	 * <p/>
 	 *
 	 * @param server GlassFish server for fetching server log.
 	 * @param skip   Skip to the end of the log file.
+	 * @param buffer Buffer passing log data to log reader.
 	 */
-	FetchLogPiped(final PayaraServer server, boolean skip) {
-		super(server, skip);
-		final String METHOD = "init";
+	FetchLogPiped(final PayaraServer server, boolean skip, final LogRingBuffer buffer) {
+		super(server, buffer.getInputStream(), skip);
 		this.eventListeners = new LinkedList();
-		try {
-			out = new PipedOutputStream((PipedInputStream) this.in);
-		} catch (IOException ioe) {
-			super.close();
-			throw new FetchLogException(LOGGER.excMsg(METHOD, "cantInit"), ioe);
-		}
+		this.buffer = buffer;
+		out = buffer.getOutputStream();
 		taksExecute = true;
 		// Create internal executor to run log reader task.
 		executor = new ThreadPoolExecutor(0, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>(),
@@ -205,28 +222,22 @@ public abstract class FetchLogPiped extends FetchLog implements Callable<TaskSta
 	 * Constructs an instance of GlassFish remote server log fetcher with external
 	 * {@link ExecutorService}.
 	 * <p/>
-	 * Super class constructor will call <code>initInputStream</code> method which
-	 * initializes <code>InputStream</code> as <code>PipedInputStream</code> before
-	 * this constructor code is being executed. Here we can simply connect already
-	 * initialized <code>PipedInputStream</code> with newly created
-	 * <code>PipedInputStream</code>.
+	 * Input stream of given buffer is passed to super class constructor, retrieved
+	 * log data are written into output stream of the same buffer.
 	 * <p/>
 	 *
 	 * @param executor Executor service used to start task.
 	 * @param server   GlassFish server for fetching server log.
 	 * @param skip     Skip to the end of the log file.
+	 * @param buffer   Buffer passing log data to log reader.
 	 */
 	@SuppressWarnings("LeakingThisInConstructor")
-	FetchLogPiped(final ExecutorService executor, final PayaraServer server, boolean skip) {
-		super(server, skip);
-		final String METHOD = "init";
+	FetchLogPiped(final ExecutorService executor, final PayaraServer server, boolean skip,
+			final LogRingBuffer buffer) {
+		super(server, buffer.getInputStream(), skip);
 		this.eventListeners = new LinkedList();
-		try {
-			out = new PipedOutputStream((PipedInputStream) this.in);
-		} catch (IOException ioe) {
-			super.close();
-			throw new FetchLogException(LOGGER.excMsg(METHOD, "cantInit"), ioe);
-		}
+		this.buffer = buffer;
+		out = buffer.getOutputStream();
 		taksExecute = true;
 		// Use external executor to run log reader task.
 		this.executor = executor;
@@ -238,21 +249,17 @@ public abstract class FetchLogPiped extends FetchLog implements Callable<TaskSta
 	////////////////////////////////////////////////////////////////////////////
 
 	/**
-	 * Constructor callback which initializes log <code>InputStream</code> as
-	 * <code>PipedInputStream</code> sending data from remote server log reader.
-	 * <p/>
-	 * This initialization is called form <code>FetchLog</code> super class
-	 * constructor. It already exists when <code>FetchLogRemote</code> constructor
-	 * is running so it may be used as argument for local
-	 * <code>PipedOutputStream</code> initialization.
+	 * Constructor callback is not used, log <code>InputStream</code> is provided
+	 * by {@link LogRingBuffer} passed to constructor.
 	 * <p/>
 	 *
-	 * @return <code>PipedInputStream</code> where log lines received from server
-	 *         will be available to read.
+	 * @return Nothing, always throws an exception.
+	 * @throws UnsupportedOperationException when called.
 	 */
 	@Override
 	InputStream initInputStream() {
-		return new PipedInputStream(PIPE_BUFFER_SIZE);
+		throw new UnsupportedOperationException(
+				"Method initInputStream should not be called in " + "FetchLogPiped class!");
 	}
 
 	////////////////////////////////////////////////////////////////////////////
@@ -394,6 +401,18 @@ public abstract class FetchLogPiped extends FetchLog implements Callable<TaskSta
 		if (result != TaskState.COMPLETED) {
 			LOGGER.log(Level.INFO, METHOD, "failed");
 		}
+		LOGGER.log(Level.FINE, METHOD, "statistics",
+				new Object[] { buffer.getBytesWritten(), buffer.getCapacity() });
+	}
+
+	/**
+	 * Get count of log bytes passed to log reader.
+	 * <p/>
+	 *
+	 * @return Count of log bytes passed to log reader.
+	 */
+	public long getBytesTransferred() {
+		return buffer.getBytesWritten();
 	}
 
 	/**
@@ -20,15 +20,11 @@ package org.eclipse.payara.tools.sdk.server;
 
 import java.io.IOException;
 import java.io.InterruptedIOException;
-import java.util.concurrent.ExecutionException;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
 import java.util.logging.Level;
 
 import org.eclipse.payara.tools.sdk.TaskState;
-import org.eclipse.payara.tools.sdk.admin.CommandFetchLogData;
-import org.eclipse.payara.tools.sdk.admin.ResultLog;
-import org.eclipse.payara.tools.sdk.admin.ServerAdmin;
 import org.eclipse.payara.tools.sdk.logging.Logger;
 import org.eclipse.payara.tools.sdk.utils.OsUtils;
 import org.eclipse.payara.tools.server.PayaraServer;
@@ -46,7 +42,7 @@ public class FetchLogRemote extends FetchLogPiped {
 	////////////////////////////////////////////////////////////////////////////
 
 	/** Logger instance for this class. */
-	private static final Logger LOGGER = new Logger(FetchLogPiped.class);
+	private static final Logger LOGGER = new Logger(FetchLogRemote.class);
 
 	////////////////////////////////////////////////////////////////////////////
 	// Constructors //
@@ -55,37 +51,32 @@ public class FetchLogRemote extends FetchLogPiped {
 	/**
 	 * Constructs an instance of GlassFish remote server log fetcher.
 	 * <p/>
-	 * Super class constructor will call <code>initInputStream</code> method which
-	 * initializes <code>InputStream</code> as <code>PipedInputStream</code> before
-	 * this constructor code is being executed. Here we can simply connect already
-	 * initialized <code>PipedInputStream</code> with newly created
-	 * <code>PipedInputStream</code>.
+	 * Log data are passed to log reader trough given buffer.
 	 * <p/>
 	 *
 	 * @param server GlassFish server for fetching server log.
 	 * @param skip   Skip to the end of the log file.
+	 * @param buffer Buffer passing log data to log reader.
 	 */
-	FetchLogRemote(final PayaraServer server, final boolean skip) {
-		super(server, skip);
+	FetchLogRemote(final PayaraServer server, final boolean skip, final LogRingBuffer buffer) {
+		super(server, skip, buffer);
 	}
 
 	/**
 	 * Constructs an instance of GlassFish remote server log fetcher with external
 	 * {@link ExecutorService}.
 	 * <p/>
-	 * Super class constructor will call <code>initInputStream</code> method which
-	 * initializes <code>InputStream</code> as <code>PipedInputStream</code> before
-	 * this constructor code is being executed. Here we can simply connect already
-	 * initialized <code>PipedInputStream</code> with newly created
-	 * <code>PipedInputStream</code>.
+	 * Log data are passed to log reader trough given buffer.
 	 * <p/>
 	 *
 	 * @param executor Executor service used to start task.
 	 * @param server   GlassFish server for fetching server log.
 	 * @param skip     Skip to the end of the log file.
+	 * @param buffer   Buffer passing log data to log reader.
 	 */
-	FetchLogRemote(final ExecutorService executor, final PayaraServer server, final boolean skip) {
-		super(executor, server, skip);
+	FetchLogRemote(final ExecutorService executor, final PayaraServer server, final boolean skip,
+			final LogRingBuffer buffer) {
+		super(executor, server, skip, buffer);
 	}
 
 	////////////////////////////////////////////////////////////////////////////
@@ -95,8 +86,10 @@ public class FetchLogRemote extends FetchLogPiped {
 	/**
 	 * Remote server log lines reading task.
 	 * <p/>
-	 * Reads new log lines from server using GlassFish remote administration API and
-	 * sends them into pipe (<code>PipedInputStream</code>).
+	 * Reads new log lines from server using dedicated {@link RemoteLogStream}
+	 * client and sends them into {@link LogRingBuffer}. Log
+	 * requests do not pass trough administration command executors so log tailing
+	 * never delays administration commands.
 	 * <p/>
 	 *
 	 * @return <code>TaskState.COMPLETED</code> when remote administration API
@@ -108,25 +101,14 @@ public class FetchLogRemote extends FetchLogPiped {
 	public TaskState call() {
 		final String METHOD = "call";
 		notifyListeners(TaskState.RUNNING);
-		String paramsAppendNext = null;
-		Future<ResultLog> future = ServerAdmin.<ResultLog>exec(server, new CommandFetchLogData());
 		try {
-			ResultLog result = future.get();
-			if (!skip && result.getState() == TaskState.COMPLETED) {
-				paramsAppendNext = result.getValue().getParamsAppendNext();
-				for (String line : result.getValue().getLines()) {
-					out.write(line.getBytes());
-					out.write(OsUtils.LINES_SEPARATOR.getBytes());
-				}
-				out.flush();
-			}
+			RemoteLogStream logStream = new RemoteLogStream(server);
+			List<String> lines = logStream.fetch();
 			byte[] lineSeparatorOut = OsUtils.LINES_SEPARATOR.getBytes();
-			while (taksExecute && result.getState() == TaskState.COMPLETED) {
-				future = ServerAdmin.<ResultLog>exec(server, new CommandFetchLogData(paramsAppendNext));
-				result = future.get();
-				if (result.getState() == TaskState.COMPLETED) {
-					paramsAppendNext = result.getValue().getParamsAppendNext();
-					for (String line : result.getValue().getLines()) {
+			boolean write = !skip;
+			while (taksExecute) {
+				if (write && !lines.isEmpty()) {
+					for (String line : lines) {
 						byte[] lineOut = line.getBytes();
 						LOGGER.log(Level.FINEST, METHOD, "read",
 								new Object[] { new Integer(lineOut.length + lineSeparatorOut.length) });
@@ -135,15 +117,14 @@ public class FetchLogRemote extends FetchLogPiped {
 					}
 					out.flush();
 				}
-				Thread.sleep(LOG_REFRESH_DELAY);
+				write = true;
+				Thread.sleep(logStream.pollDelay());
+				lines = logStream.fetch();
 			}
 		} catch (InterruptedException ie) {
 			LOGGER.log(Level.INFO, METHOD, "interrupted", ie.getMessage());
 			Thread.currentThread().interrupt();
 			return notifyListeners(TaskState.COMPLETED);
-		} catch (ExecutionException ee) {
-			LOGGER.log(Level.INFO, METHOD, "exception", ee);
-			return notifyListeners(TaskState.FAILED);
 		} catch (InterruptedIOException ie) {
 			LOGGER.log(Level.INFO, METHOD, "interruptedIO", ie.getMessage());
 			Thread.currentThread().interrupt();
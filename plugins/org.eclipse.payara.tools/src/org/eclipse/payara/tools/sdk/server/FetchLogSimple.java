@@ -46,6 +46,21 @@ public class FetchLogSimple extends FetchLog {
 		super(in, false);
 	}
 
+	////////////////////////////////////////////////////////////////////////////
+	// Getters and Setters //
+	////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * Provided stream is live output, there is no existing log to replay.
+	 * <p/>
+	 *
+	 * @return Value of <code>false</code>.
+	 */
+	@Override
+	public boolean isReplaying() {
+		return false;
+	}
+
 	////////////////////////////////////////////////////////////////////////////
 	// Implemented Abstract Methods //
 	////////////////////////////////////////////////////////////////////////////
@@ -0,0 +1,305 @@
+/******************************************************************************
+ * Copyright (c) 2020 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.eclipse.payara.tools.sdk.server;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+import static java.util.logging.Level.FINE;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.payara.tools.sdk.logging.Logger;
+
+/**
+ * Cache of server launch plans.
+ * <p/>
+ * Launch plan is the complete set of <code>CommandStartDAS</code> arguments
+ * computed from <code>domain.xml</code>, Java VM, server home and startup
+ * arguments. Plans are keyed by all of those inputs except
+ * <code>domain.xml</code> content, which is watched: any change of
+ * <code>domain.xml</code> in domain config directory drops all plans of that
+ * domain.
+ * <p/>
+ * Plan also remembers size and modification time of <code>domain.xml</code>
+ * and every cache hit compares them with current values. Watch service
+ * implementations polling for changes report them with a delay and some file
+ * systems can't be watched at all, the check covers both cases.
+ * <p/>
+ * Plan built while <code>domain.xml</code> changed is never stored.
+ * <p/>
+ */
+final class LaunchPlanCache {
+
+	////////////////////////////////////////////////////////////////////////////
+	// Inner classes //
+	////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * Computed <code>CommandStartDAS</code> arguments.
+	 */
+	static final class Plan {
+
+		/** Java SE home used to run the server. */
+		final String javaHome;
+
+		/** Class path of server Java VM. */
+		final String classPath;
+
+		/** Java VM options. */
+		final String javaOpts;
+
+		/** Server arguments. */
+		final String glassfishArgs;
+
+		/** Domain directory. */
+		final String domainDir;
+
+		Plan(final String javaHome, final String classPath, final String javaOpts, final String glassfishArgs,
+				final String domainDir) {
+			this.javaHome = javaHome;
+			this.classPath = classPath;
+			this.javaOpts = javaOpts;
+			this.glassfishArgs = glassfishArgs;
+			this.domainDir = domainDir;
+		}
+	}
+
+	/**
+	 * State of domain config directory taken before plan is built.
+	 */
+	static final class Ticket {
+
+		/** Watched domain config directory. */
+		private final Path configDir;
+
+		/** Count of config directory changes seen so far. */
+		private final long generation;
+
+		/** Fingerprint of <code>domain.xml</code>. */
+		private final String fingerprint;
+
+		private Ticket(final Path configDir, final long generation, final String fingerprint) {
+			this.configDir = configDir;
+			this.generation = generation;
+			this.fingerprint = fingerprint;
+		}
+	}
+
+	/**
+	 * Cached plan with data needed to validate it.
+	 */
+	private static final class Entry {
+
+		/** Cached plan. */
+		private final Plan plan;
+
+		/** Domain config directory plan was built from. */
+		private final Path configDir;
+
+		/** Fingerprint of <code>domain.xml</code>. */
+		private final String fingerprint;
+
+		private Entry(final Plan plan, final Path configDir, final String fingerprint) {
+			this.plan = plan;
+			this.configDir = configDir;
+			this.fingerprint = fingerprint;
+		}
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	// Class attributes //
+	////////////////////////////////////////////////////////////////////////////
+
+	/** Logger instance for this class. */
+	private static final Logger LOGGER = new Logger(LaunchPlanCache.class);
+
+	/** Maximal count of cached plans. */
+	static final int MAX_PLANS = 32;
+
+	/** Domain configuration file name. */
+	private static final String DOMAIN_XML = "domain.xml";
+
+	////////////////////////////////////////////////////////////////////////////
+	// Instance attributes //
+	////////////////////////////////////////////////////////////////////////////
+
+	/** Cached plans in access order, eldest are dropped above limit. */
+	private final Map<List<Object>, Entry> plans = new LinkedHashMap<List<Object>, Entry>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(final Map.Entry<List<Object>, Entry> eldest) {
+			return size() > MAX_PLANS;
+		}
+	};
+
+	/** Watch keys of domain config directories. */
+	private final Map<Path, WatchKey> watchKeys = new HashMap<>();
+
+	/** Count of changes seen in each domain config directory. */
+	private final Map<Path, Long> generations = new HashMap<>();
+
+	/** Watch service, created with first watched directory. */
+	private WatchService watchService;
+
+	////////////////////////////////////////////////////////////////////////////
+	// Methods //
+	////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * Get cached plan.
+	 * <p/>
+	 *
+	 * @param key Plan inputs.
+	 * @return Cached plan or <code>null</code> when there is no valid plan.
+	 */
+	synchronized Plan get(final List<Object> key) {
+		Entry entry = plans.get(key);
+		if (entry == null) {
+			return null;
+		}
+		if (!entry.fingerprint.equals(fingerprint(entry.configDir))) {
+			plans.remove(key);
+			return null;
+		}
+		return entry.plan;
+	}
+
+	/**
+	 * Start watching domain config directory and take its state before plan is
+	 * built.
+	 * <p/>
+	 *
+	 * @param configDir Domain config directory.
+	 * @return State of config directory to be passed to
+	 *         {@link #put(List, Ticket, Plan)}.
+	 */
+	Ticket prepare(final Path configDir) {
+		watch(configDir);
+		String fingerprint = fingerprint(configDir);
+		synchronized (this) {
+			return new Ticket(configDir, generations.getOrDefault(configDir, 0L), fingerprint);
+		}
+	}
+
+	/**
+	 * Store built plan unless domain config changed since ticket was taken.
+	 * <p/>
+	 *
+	 * @param key    Plan inputs.
+	 * @param ticket State of config directory taken before plan was built.
+	 * @param plan   Built plan.
+	 */
+	synchronized void put(final List<Object> key, final Ticket ticket, final Plan plan) {
+		if (generations.getOrDefault(ticket.configDir, 0L) != ticket.generation) {
+			return;
+		}
+		if (ticket.fingerprint == null || !ticket.fingerprint.equals(fingerprint(ticket.configDir))) {
+			return;
+		}
+		plans.put(key, new Entry(plan, ticket.configDir, ticket.fingerprint));
+	}
+
+	/**
+	 * Register domain config directory with watch service.
+	 * <p/>
+	 *
+	 * @param configDir Domain config directory.
+	 * @return Value of <code>true</code> when directory is watched.
+	 */
+	private synchronized boolean watch(final Path configDir) {
+		WatchKey key = watchKeys.get(configDir);
+		if (key != null && key.isValid()) {
+			return true;
+		}
+		try {
+			if (watchService == null) {
+				watchService = configDir.getFileSystem().newWatchService();
+				Thread watcher = new Thread(this::processEvents, "Payara domain config watcher");
+				watcher.setDaemon(true);
+				watcher.start();
+			}
+			watchKeys.put(configDir, configDir.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE));
+			return true;
+		} catch (IOException | UnsupportedOperationException e) {
+			LOGGER.log(FINE, "watch", "failed", new Object[] { configDir, e.getLocalizedMessage() });
+			return false;
+		}
+	}
+
+	/**
+	 * Drop plans of domains whose <code>domain.xml</code> changed. Other files
+	 * in config directory, e.g. pid files written on every start, are ignored.
+	 */
+	private void processEvents() {
+		while (true) {
+			WatchKey key;
+			try {
+				key = watchService.take();
+			} catch (InterruptedException | ClosedWatchServiceException e) {
+				return;
+			}
+			boolean changed = false;
+			for (WatchEvent<?> event : key.pollEvents()) {
+				if (event.kind() == OVERFLOW || DOMAIN_XML.equals(String.valueOf(event.context()))) {
+					changed = true;
+				}
+			}
+			boolean valid = key.reset();
+			if (changed || !valid) {
+				invalidate((Path) key.watchable(), valid);
+			}
+		}
+	}
+
+	/**
+	 * Drop all plans built from given domain config directory.
+	 * <p/>
+	 *
+	 * @param configDir Domain config directory.
+	 * @param watched   Directory is still watched.
+	 */
+	private synchronized void invalidate(final Path configDir, final boolean watched) {
+		generations.merge(configDir, 1L, Long::sum);
+		plans.values().removeIf(entry -> entry.configDir.equals(configDir));
+		if (!watched) {
+			watchKeys.remove(configDir);
+		}
+		LOGGER.log(FINE, "invalidate", "changed", configDir);
+	}
+
+	/**
+	 * Cheap fingerprint of <code>domain.xml</code>.
+	 * <p/>
+	 *
+	 * @param configDir Domain config directory.
+	 * @return Fingerprint or <code>null</code> when file does not exist.
+	 */
+	private static String fingerprint(final Path configDir) {
+		File domainXml = configDir.resolve(DOMAIN_XML).toFile();
+		if (!domainXml.isFile()) {
+			return null;
+		}
+		return domainXml.length() + ":" + domainXml.lastModified();
+	}
+
+}
@@ -0,0 +1,277 @@
+/******************************************************************************
+ * Copyright (c) 2020 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.eclipse.payara.tools.sdk.server;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Level;
+
+/**
+ * Server log records filter specification.
+ * <p/>
+ * Selects log records by minimal level, logger name prefixes, thread and time
+ * window. Specification is evaluated on raw record header fields before the
+ * record is formatted, so records nobody sees are never rendered.
+ * <p/>
+ * Specification is evaluated locally only. Plain text <code>view-log</code>
+ * resource of the server understands nothing but the position to continue
+ * from, so conditions are not forwarded to remote servers.
+ * <p/>
+ * Specification is immutable, every setter returns new specification. Empty
+ * specification accepts all records.
+ * <p/>
+ */
+public final class LogFilterSpec {
+
+	////////////////////////////////////////////////////////////////////////////
+	// Instance attributes //
+	////////////////////////////////////////////////////////////////////////////
+
+	/** Minimal accepted level or <code>null</code> to accept all levels. */
+	private final Level minLevel;
+
+	/** Accepted logger name prefixes, all loggers when empty. */
+	private final List<String> includeLoggers;
+
+	/** Rejected logger name prefixes. */
+	private final List<String> excludeLoggers;
+
+	/** Text thread info must contain or <code>null</code>. */
+	private final String thread;
+
+	/** Time window start in milliseconds, inclusive. */
+	private final long fromTime;
+
+	/** Time window end in milliseconds, inclusive. */
+	private final long toTime;
+
+	////////////////////////////////////////////////////////////////////////////
+	// Constructors //
+	////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * Constructs an empty specification accepting all records.
+	 */
+	public LogFilterSpec() {
+		this(null, Collections.emptyList(), Collections.emptyList(), null, Long.MIN_VALUE, Long.MAX_VALUE);
+	}
+
+	private LogFilterSpec(final Level minLevel, final List<String> includeLoggers, final List<String> excludeLoggers,
+			final String thread, final long fromTime, final long toTime) {
+		this.minLevel = minLevel;
+		this.includeLoggers = includeLoggers;
+		this.excludeLoggers = excludeLoggers;
+		this.thread = thread;
+		this.fromTime = fromTime;
+		this.toTime = toTime;
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	// Static methods //
+	////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * Copy list with given element appended.
+	 * <p/>
+	 *
+	 * @param list    Unmodifiable list.
+	 * @param element Appended element.
+	 * @return Unmodifiable copy of list with element appended.
+	 */
+	private static List<String> append(final List<String> list, final String element) {
+		List<String> copy = new ArrayList<>(list.size() + 1);
+		copy.addAll(list);
+		copy.add(element);
+		return Collections.unmodifiableList(copy);
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	// Setters //
+	////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * Set minimal accepted level.
+	 * <p/>
+	 *
+	 * @param minLevel Minimal accepted level, <code>null</code> accepts all.
+	 * @return New specification.
+	 */
+	public LogFilterSpec minLevel(final Level minLevel) {
+		return new LogFilterSpec(minLevel, includeLoggers, excludeLoggers, thread, fromTime, toTime);
+	}
+
+	/**
+	 * Accept only loggers starting with given prefix. May be called repeatedly to
+	 * accept more prefixes.
+	 * <p/>
+	 *
+	 * @param prefix Logger name prefix.
+	 * @return New specification.
+	 */
+	public LogFilterSpec includeLogger(final String prefix) {
+		return new LogFilterSpec(minLevel, append(includeLoggers, prefix), excludeLoggers, thread, fromTime, toTime);
+	}
+
+	/**
+	 * Reject loggers starting with given prefix. Takes precedence over included
+	 * prefixes.
+	 * <p/>
+	 *
+	 * @param prefix Logger name prefix.
+	 * @return New specification.
+	 */
+	public LogFilterSpec excludeLogger(final String prefix) {
+		return new LogFilterSpec(minLevel, includeLoggers, append(excludeLoggers, prefix), thread, fromTime, toTime);
+	}
+
+	/**
+	 * Accept only records of threads whose thread info contains given text.
+	 * <p/>
+	 *
+	 * @param thread Thread name or ID, <code>null</code> accepts all.
+	 * @return New specification.
+	 */
+	public LogFilterSpec thread(final String thread) {
+		return new LogFilterSpec(minLevel, includeLoggers, excludeLoggers, thread, fromTime, toTime);
+	}
+
+	/**
+	 * Accept only records logged in given time window.
+	 * <p/>
+	 *
+	 * @param fromTime Window start in milliseconds, inclusive.
+	 * @param toTime   Window end in milliseconds, inclusive.
+	 * @return New specification.
+	 */
+	public LogFilterSpec timeWindow(final long fromTime, final long toTime) {
+		return new LogFilterSpec(minLevel, includeLoggers, excludeLoggers, thread, fromTime, toTime);
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	// Getters //
+	////////////////////////////////////////////////////////////////////////////
+
+	public Level getMinLevel() {
+		return minLevel;
+	}
+
+	public List<String> getIncludeLoggers() {
+		return includeLoggers;
+	}
+
+	public List<String> getExcludeLoggers() {
+		return excludeLoggers;
+	}
+
+	public String getThread() {
+		return thread;
+	}
+
+	public long getFromTime() {
+		return fromTime;
+	}
+
+	public long getToTime() {
+		return toTime;
+	}
+
+	/**
+	 * Check if time window is limited.
+	 * <p/>
+	 *
+	 * @return Value of <code>true</code> when records are selected by time.
+	 */
+	public boolean hasTimeWindow() {
+		return fromTime != Long.MIN_VALUE || toTime != Long.MAX_VALUE;
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	// Methods //
+	////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * Check record level given as numeric level value.
+	 * <p/>
+	 *
+	 * @param levelValue Numeric value of record level.
+	 * @return Value of <code>true</code> when level is accepted.
+	 */
+	public boolean acceptsLevel(final int levelValue) {
+		return minLevel == null || levelValue >= minLevel.intValue();
+	}
+
+	/**
+	 * Check record level given as level name.
+	 * <p/>
+	 * Unknown level names are accepted.
+	 * <p/>
+	 *
+	 * @param levelName Name of record level.
+	 * @return Value of <code>true</code> when level is accepted.
+	 */
+	public boolean acceptsLevel(final String levelName) {
+		if (minLevel == null) {
+			return true;
+		}
+		try {
+			return acceptsLevel(Level.parse(levelName.trim()).intValue());
+		} catch (IllegalArgumentException iae) {
+			return true;
+		}
+	}
+
+	/**
+	 * Check record logger name.
+	 * <p/>
+	 *
+	 * @param logger Logger name.
+	 * @return Value of <code>true</code> when logger is accepted.
+	 */
+	public boolean acceptsLogger(final String logger) {
+		for (String prefix : excludeLoggers) {
+			if (logger.startsWith(prefix)) {
+				return false;
+			}
+		}
+		if (includeLoggers.isEmpty()) {
+			return true;
+		}
+		for (String prefix : includeLoggers) {
+			if (logger.startsWith(prefix)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Check record thread info.
+	 * <p/>
+	 *
+	 * @param threadInfo Thread info of record.
+	 * @return Value of <code>true</code> when thread is accepted.
+	 */
+	public boolean acceptsThread(final String threadInfo) {
+		return thread == null || threadInfo.contains(thread);
+	}
+
+	/**
+	 * Check record time.
+	 * <p/>
+	 *
+	 * @param timeMillis Record time in milliseconds.
+	 * @return Value of <code>true</code> when time is inside time window.
+	 */
+	public boolean acceptsTime(final long timeMillis) {
+		return timeMillis >= fromTime && timeMillis <= toTime;
+	}
+
+}
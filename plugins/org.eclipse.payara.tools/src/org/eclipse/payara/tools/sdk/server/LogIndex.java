@@ -0,0 +1,784 @@
+/******************************************************************************
+ * Copyright (c) 2020 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.eclipse.payara.tools.sdk.server;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+
+import org.eclipse.payara.tools.sdk.logging.Logger;
+import org.eclipse.payara.tools.sdk.utils.ServerUtils;
+import org.eclipse.payara.tools.server.PayaraServer;
+
+/**
+ * Sparse index of local server log records.
+ * <p/>
+ * Active server log file and its rotated siblings are scanned once in
+ * background and only new data are scanned on next update. Rotated files are
+ * recognized by file key, so renamed active log file keeps its index. For every
+ * file the index keeps record offsets with time at most every
+ * {@link #CHECKPOINT_INTERVAL} bytes and offsets, time, level and logger of all
+ * records of {@link #MARK_LEVEL} or higher. Seeking by time or by level then
+ * scans at most one checkpoint interval instead of whole log history.
+ * <p/>
+ * Both GlassFish 3 (<code>[#|time|level|version|logger|...</code>) and Payara
+ * ODL (<code>[time] [version] [level] [] [logger] ...</code>) record headers
+ * are recognized. All files are read trough plain channel reads into one heap
+ * window, so no log file stays memory mapped until garbage collection and the
+ * server or user may rotate, compress or delete log files any time.
+ * <p/>
+ */
+public class LogIndex {
+
+	////////////////////////////////////////////////////////////////////////////
+	// Inner classes //
+	////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * Position of log record in server log history.
+	 */
+	public static final class Position {
+
+		/** Log file containing the record. */
+		private final Path file;
+
+		/** Offset of the record in log file. */
+		private final long offset;
+
+		/** Record time in milliseconds or <code>Long.MIN_VALUE</code>. */
+		private final long timeMillis;
+
+		/** Log files following the file with the record, oldest first. */
+		private final List<Path> followingFiles;
+
+		private Position(final Path file, final long offset, final long timeMillis, final List<Path> followingFiles) {
+			this.file = file;
+			this.offset = offset;
+			this.timeMillis = timeMillis;
+			this.followingFiles = followingFiles;
+		}
+
+		public Path getFile() {
+			return file;
+		}
+
+		public long getOffset() {
+			return offset;
+		}
+
+		public long getTimeMillis() {
+			return timeMillis;
+		}
+
+		/**
+		 * Get log files to be read after the file containing the record.
+		 * <p/>
+		 *
+		 * @return Unmodifiable list of log files, oldest first. Active log file is
+		 *         the last one.
+		 */
+		public List<Path> getFollowingFiles() {
+			return followingFiles;
+		}
+
+		@Override
+		public String toString() {
+			return file + "@" + offset;
+		}
+	}
+
+	/**
+	 * Index of single log file.
+	 */
+	private static final class FileIndex {
+
+		/** Current path of indexed file. */
+		private Path file;
+
+		/** Key identifying indexed file across renames. */
+		private final Object key;
+
+		/** Count of bytes indexed, always at line start. */
+		private long indexed;
+
+		/** Offset of last checkpoint. */
+		private long lastCheckpoint = -CHECKPOINT_INTERVAL;
+
+		/** Checkpoint record offsets and times. */
+		private long[] checkOffsets = new long[16];
+		private long[] checkTimes = new long[16];
+		private int checks;
+
+		/** Marked record offsets, times, levels and loggers. */
+		private long[] markOffsets = new long[16];
+		private long[] markTimes = new long[16];
+		private int[] markLevels = new int[16];
+		private String[] markLoggers = new String[16];
+		private int marks;
+
+		private FileIndex(final Path file, final Object key) {
+			this.file = file;
+			this.key = key;
+		}
+
+		private void addCheckpoint(final long offset, final long time) {
+			if (checks == checkOffsets.length) {
+				checkOffsets = Arrays.copyOf(checkOffsets, checks * 2);
+				checkTimes = Arrays.copyOf(checkTimes, checks * 2);
+			}
+			checkOffsets[checks] = offset;
+			checkTimes[checks++] = time;
+			lastCheckpoint = offset;
+		}
+
+		private void addMark(final long offset, final long time, final int level, final String logger) {
+			if (marks == markOffsets.length) {
+				markOffsets = Arrays.copyOf(markOffsets, marks * 2);
+				markTimes = Arrays.copyOf(markTimes, marks * 2);
+				markLevels = Arrays.copyOf(markLevels, marks * 2);
+				markLoggers = Arrays.copyOf(markLoggers, marks * 2);
+			}
+			markOffsets[marks] = offset;
+			markTimes[marks] = time;
+			markLevels[marks] = level;
+			markLoggers[marks++] = logger;
+		}
+
+		/**
+		 * Get time of first checkpoint.
+		 * <p/>
+		 *
+		 * @return Time of first indexed record or <code>Long.MAX_VALUE</code> when
+		 *         file contains no records.
+		 */
+		private long firstTime() {
+			return checks > 0 ? checkTimes[0] : Long.MAX_VALUE;
+		}
+
+		/**
+		 * Get offset of last checkpoint not later than given time.
+		 * <p/>
+		 *
+		 * @param time Time in milliseconds.
+		 * @return Checkpoint offset or <code>0</code> when all checkpoints are
+		 *         later.
+		 */
+		private long checkpointBefore(final long time) {
+			int low = 0;
+			int high = checks - 1;
+			long offset = 0;
+			while (low <= high) {
+				int mid = (low + high) >>> 1;
+				if (checkTimes[mid] <= time) {
+					offset = checkOffsets[mid];
+					low = mid + 1;
+				} else {
+					high = mid - 1;
+				}
+			}
+			return offset;
+		}
+	}
+
+	/**
+	 * Iterates log record headers in given part of log file.
+	 */
+	private static final class RecordScanner {
+
+		/** Log file channel. */
+		private final FileChannel channel;
+
+		/** End of scanned part. */
+		private final long limit;
+
+		/** Current window and its offset in file. */
+		private ByteBuffer window;
+		private long base;
+
+		/** Next line start. */
+		private long pos;
+
+		/** Current record offset. */
+		private long offset;
+
+		/** Header line of current record. */
+		private final byte[] header = new byte[HEADER_MAX];
+		private int headerLength;
+
+		/** Header fields start and end offsets. */
+		private final int[] fields = new int[2 * ODL_FIELDS];
+		private int fieldCount;
+
+		/** Current record is GlassFish 3 record. */
+		private boolean v3;
+
+		private RecordScanner(final FileChannel channel, final long from, final long limit) {
+			this.channel = channel;
+			this.pos = from;
+			this.limit = limit;
+		}
+
+		/**
+		 * Move to next record.
+		 * <p/>
+		 *
+		 * @return Value of <code>true</code> when record was found.
+		 * @throws IOException when log file can't be read.
+		 */
+		private boolean next() throws IOException {
+			while (pos < limit) {
+				long start = pos;
+				headerLength = 0;
+				byte b = 0;
+				while (pos < limit && (b = byteAt(pos++)) != '\n') {
+					if (headerLength < HEADER_MAX) {
+						header[headerLength++] = b;
+					}
+				}
+				if (parseHeader()) {
+					offset = start;
+					return true;
+				}
+			}
+			return false;
+		}
+
+		private byte byteAt(final long position) throws IOException {
+			if (window == null || position < base || position >= base + window.limit()) {
+				if (window == null) {
+					window = ByteBuffer.allocate(READ_WINDOW);
+				}
+				window.clear();
+				window.limit((int) Math.min(READ_WINDOW, limit - position));
+				while (window.hasRemaining() && channel.read(window, position + window.position()) > 0) {
+				}
+				window.flip();
+				if (!window.hasRemaining()) {
+					// File was truncated meanwhile.
+					throw new EOFException();
+				}
+				base = position;
+			}
+			return window.get((int) (position - base));
+		}
+
+		/**
+		 * Split header line into fields.
+		 * <p/>
+		 *
+		 * @return Value of <code>true</code> when line starts log record.
+		 */
+		private boolean parseHeader() {
+			fieldCount = 0;
+			if (headerLength < 3 || header[0] != '[') {
+				return false;
+			}
+			if (header[1] == '#' && header[2] == '|') {
+				v3 = true;
+				int start = 3;
+				for (int i = start; i < headerLength && fieldCount < V3_FIELDS; i++) {
+					if (header[i] == '|') {
+						addField(start, i);
+						start = i + 1;
+					}
+				}
+				return fieldCount == V3_FIELDS;
+			}
+			if (header[1] < '0' || header[1] > '9') {
+				return false;
+			}
+			v3 = false;
+			int i = 0;
+			while (fieldCount < ODL_FIELDS) {
+				while (i < headerLength && header[i] == ' ') {
+					i++;
+				}
+				if (i == headerLength || header[i] != '[') {
+					break;
+				}
+				int end = i + 1;
+				while (end < headerLength && header[end] != ']') {
+					end++;
+				}
+				if (end == headerLength) {
+					break;
+				}
+				addField(i + 1, end);
+				i = end + 1;
+			}
+			return fieldCount > ODL_LOGGER;
+		}
+
+		private void addField(final int start, final int end) {
+			fields[2 * fieldCount] = start;
+			fields[2 * fieldCount++ + 1] = end;
+		}
+
+		private String field(final int field) {
+			return new String(header, fields[2 * field], fields[2 * field + 1] - fields[2 * field],
+					StandardCharsets.UTF_8).trim();
+		}
+
+		/**
+		 * Parse number following colon in ODL field like
+		 * <code>levelValue: 800</code>.
+		 * <p/>
+		 *
+		 * @return The number or <code>Long.MIN_VALUE</code> when field is missing.
+		 */
+		private long number(final int field) {
+			if (field >= fieldCount) {
+				return Long.MIN_VALUE;
+			}
+			long value = 0;
+			boolean digits = false;
+			boolean colon = false;
+			for (int i = fields[2 * field], end = fields[2 * field + 1]; i < end; i++) {
+				byte b = header[i];
+				if (!colon) {
+					colon = b == ':';
+				} else if (b >= '0' && b <= '9') {
+					value = value * 10 + b - '0';
+					digits = true;
+				} else if (b != ' ' || digits) {
+					return Long.MIN_VALUE;
+				}
+			}
+			return digits ? value : Long.MIN_VALUE;
+		}
+
+		/**
+		 * Get numeric value of current record level.
+		 */
+		private int level() {
+			if (!v3) {
+				long value = number(ODL_LEVEL_VALUE);
+				if (value != Long.MIN_VALUE) {
+					return (int) value;
+				}
+			}
+			return levelValue(field(v3 ? V3_LEVEL : ODL_LEVEL));
+		}
+
+		/**
+		 * Get current record time.
+		 * <p/>
+		 *
+		 * @return Time in milliseconds or <code>Long.MIN_VALUE</code> when time
+		 *         can't be parsed.
+		 */
+		private long time() {
+			if (!v3) {
+				long value = number(ODL_TIME_MILLIS);
+				if (value != Long.MIN_VALUE) {
+					return value;
+				}
+			}
+			try {
+				return OffsetDateTime.parse(field(TIME), TIME_FORMAT).toInstant().toEpochMilli();
+			} catch (DateTimeParseException dtpe) {
+				return Long.MIN_VALUE;
+			}
+		}
+
+		/**
+		 * Get current record logger name.
+		 */
+		private String logger() {
+			return field(v3 ? V3_LOGGER : ODL_LOGGER);
+		}
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	// Class attributes //
+	////////////////////////////////////////////////////////////////////////////
+
+	/** Logger instance for this class. */
+	private static final Logger LOGGER = new Logger(LogIndex.class);
+
+	/** Minimal distance between checkpoints in bytes. */
+	static final int CHECKPOINT_INTERVAL = 64 * 1024;
+
+	/** Records of this level and higher are indexed individually. */
+	static final int MARK_LEVEL = Level.WARNING.intValue();
+
+	/** Size of log file read window. */
+	private static final int READ_WINDOW = 1024 * 1024;
+
+	/** Maximal length of record header line examined. */
+	private static final int HEADER_MAX = 1024;
+
+	/** Record time format of both GlassFish 3 and ODL records. */
+	private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSZ");
+
+	/** Header field indexes. */
+	private static final int TIME = 0;
+	private static final int V3_LEVEL = 1;
+	private static final int V3_LOGGER = 3;
+	private static final int V3_FIELDS = 4;
+	private static final int ODL_LEVEL = 2;
+	private static final int ODL_LOGGER = 4;
+	private static final int ODL_TIME_MILLIS = 6;
+	private static final int ODL_LEVEL_VALUE = 7;
+	private static final int ODL_FIELDS = 8;
+
+	/** Numeric values of known level names. */
+	private static final Map<String, Integer> LEVEL_VALUES = new ConcurrentHashMap<>();
+
+	/** Indexes mapped to absolute active log file path. */
+	private static final Map<Path, LogIndex> INDEXES = new ConcurrentHashMap<>();
+
+	/** Background indexing thread. */
+	private static final ExecutorService INDEXER = Executors.newSingleThreadExecutor(r -> {
+		Thread t = new Thread(r, "Payara log indexer");
+		t.setDaemon(true);
+		return t;
+	});
+
+	////////////////////////////////////////////////////////////////////////////
+	// Static methods //
+	////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * Get log index of local server.
+	 * <p/>
+	 * Index is shared by all callers asking for the same log file. Returned index
+	 * may be empty, call {@link #refresh()} or {@link #update()} to index new log
+	 * data.
+	 * <p/>
+	 *
+	 * @param server Local GlassFish server.
+	 * @return Log index of server log file.
+	 */
+	public static LogIndex get(final PayaraServer server) {
+		Path logFile = ServerUtils.getServerLogFile(server).toPath().toAbsolutePath();
+		return INDEXES.computeIfAbsent(logFile, LogIndex::new);
+	}
+
+	/**
+	 * Get numeric value of level name.
+	 * <p/>
+	 *
+	 * @param name Level name.
+	 * @return Level value, <code>INFO</code> level value for unknown names.
+	 */
+	private static int levelValue(final String name) {
+		return LEVEL_VALUES.computeIfAbsent(name, n -> {
+			try {
+				return Level.parse(n).intValue();
+			} catch (IllegalArgumentException iae) {
+				return Level.INFO.intValue();
+			}
+		});
+	}
+
+	/**
+	 * Get length of complete lines in log file.
+	 * <p/>
+	 *
+	 * @param channel Log file channel.
+	 * @return Offset following last new line character.
+	 * @throws IOException when log file can't be read.
+	 */
+	private static long completeLength(final FileChannel channel) throws IOException {
+		ByteBuffer tail = ByteBuffer.allocate(4096);
+		long end = channel.size();
+		while (end > 0) {
+			long start = Math.max(0, end - tail.capacity());
+			tail.clear();
+			tail.limit((int) (end - start));
+			while (tail.hasRemaining() && channel.read(tail, start + tail.position()) > 0) {
+			}
+			for (int i = tail.position() - 1; i >= 0; i--) {
+				if (tail.get(i) == '\n') {
+					return start + i + 1;
+				}
+			}
+			end = start;
+		}
+		return 0;
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	// Instance attributes //
+	////////////////////////////////////////////////////////////////////////////
+
+	/** Active log file. */
+	private final Path logFile;
+
+	/** Indexes of log files, oldest first. Active log file is the last one. */
+	private List<FileIndex> files = Collections.emptyList();
+
+	/** Logger names shared by marks. */
+	private final Map<String, String> loggers = new HashMap<>();
+
+	////////////////////////////////////////////////////////////////////////////
+	// Constructors //
+	////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * Constructs an instance of log index.
+	 * <p/>
+	 *
+	 * @param logFile Active log file.
+	 */
+	LogIndex(final Path logFile) {
+		this.logFile = logFile;
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	// Methods //
+	////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * Index new log data in background.
+	 * <p/>
+	 *
+	 * @return Result of background indexing, this index.
+	 */
+	public Future<LogIndex> refresh() {
+		final String METHOD = "refresh";
+		return INDEXER.submit(() -> {
+			try {
+				update();
+			} catch (IOException ioe) {
+				LOGGER.log(Level.INFO, METHOD, "failed", ioe);
+			}
+			return this;
+		});
+	}
+
+	/**
+	 * Index new log data.
+	 * <p/>
+	 * Only data appended since last update are scanned. Files rotated since last
+	 * update keep their index, new and truncated files are indexed from start.
+	 * <p/>
+	 *
+	 * @throws IOException when log files can't be read.
+	 */
+	public synchronized void update() throws IOException {
+		final String METHOD = "update";
+		long started = System.currentTimeMillis();
+		Map<Object, FileIndex> known = new HashMap<>();
+		for (FileIndex fileIndex : files) {
+			known.put(fileIndex.key, fileIndex);
+		}
+		List<FileIndex> current = new ArrayList<>();
+		long scanned = 0;
+		for (Path file : logFiles()) {
+			Object key = FetchLogLocal.fileKey(file);
+			if (key == null) {
+				continue;
+			}
+			FileIndex fileIndex = known.get(key);
+			if (fileIndex == null || Files.size(file) < fileIndex.indexed) {
+				fileIndex = new FileIndex(file, key);
+			}
+			fileIndex.file = file;
+			long indexed = fileIndex.indexed;
+			index(fileIndex);
+			scanned += fileIndex.indexed - indexed;
+			current.add(fileIndex);
+		}
+		files = current;
+		LOGGER.log(Level.FINE, METHOD, "indexed",
+				new Object[] { scanned, logFile.toString(), System.currentTimeMillis() - started });
+	}
+
+	/**
+	 * Find first record of indexed log history at or after given time.
+	 * <p/>
+	 *
+	 * @param timeMillis Time in milliseconds.
+	 * @return Record position or <code>null</code> when no such record was
+	 *         indexed.
+	 * @throws IOException when log files can't be read.
+	 */
+	public Position seekTime(final long timeMillis) throws IOException {
+		return seek(new LogFilterSpec().timeWindow(timeMillis, Long.MAX_VALUE));
+	}
+
+	/**
+	 * Find first record of indexed log history accepted by given filter.
+	 * <p/>
+	 * Time window, minimal level and logger prefixes are evaluated. Thread is not
+	 * indexed and is left to log reader filter.
+	 * <p/>
+	 *
+	 * @param spec Log records filter.
+	 * @return Record position or <code>null</code> when no such record was
+	 *         indexed.
+	 * @throws IOException when log files can't be read.
+	 */
+	public synchronized Position seek(final LogFilterSpec spec) throws IOException {
+		long from = spec.getFromTime();
+		boolean marksOnly = spec.getMinLevel() != null && spec.getMinLevel().intValue() >= MARK_LEVEL;
+		for (int i = 0; i < files.size(); i++) {
+			FileIndex fileIndex = files.get(i);
+			if (i + 1 < files.size() && files.get(i + 1).firstTime() < from) {
+				continue;
+			}
+			long start = fileIndex.checkpointBefore(from);
+			if (marksOnly) {
+				for (int m = 0; m < fileIndex.marks; m++) {
+					long time = fileIndex.markTimes[m];
+					if (fileIndex.markOffsets[m] < start || time < from) {
+						continue;
+					}
+					if (time > spec.getToTime()) {
+						return null;
+					}
+					if (spec.acceptsLevel(fileIndex.markLevels[m]) && spec.acceptsLogger(fileIndex.markLoggers[m])) {
+						return position(i, fileIndex.markOffsets[m], time);
+					}
+				}
+				continue;
+			}
+			try (FileChannel channel = FileChannel.open(fileIndex.file, StandardOpenOption.READ)) {
+				RecordScanner scanner = new RecordScanner(channel, start, fileIndex.indexed);
+				while (scanner.next()) {
+					long time = Long.MIN_VALUE;
+					if (spec.hasTimeWindow()) {
+						time = scanner.time();
+						if (time != Long.MIN_VALUE && time < from) {
+							continue;
+						}
+						if (time > spec.getToTime()) {
+							return null;
+						}
+					}
+					if (spec.acceptsLevel(scanner.level()) && spec.acceptsLogger(scanner.logger())) {
+						return position(i, scanner.offset, time);
+					}
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Get indexed log files, oldest first.
+	 * <p/>
+	 *
+	 * @return Unmodifiable list of log files, active log file is the last one.
+	 */
+	public synchronized List<Path> getFiles() {
+		List<Path> paths = new ArrayList<>(files.size());
+		for (FileIndex fileIndex : files) {
+			paths.add(fileIndex.file);
+		}
+		return Collections.unmodifiableList(paths);
+	}
+
+	/**
+	 * List active log file and its rotated siblings.
+	 * <p/>
+	 * Compressed rotated files are skipped.
+	 * <p/>
+	 *
+	 * @return Log files ordered by modification time, active log file last.
+	 * @throws IOException when logs directory can't be listed.
+	 */
+	private List<Path> logFiles() throws IOException {
+		List<Path> rotated = new ArrayList<>();
+		Path dir = logFile.getParent();
+		if (Files.isDirectory(dir)) {
+			try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, logFile.getFileName() + "_*")) {
+				for (Path file : stream) {
+					String name = file.getFileName().toString();
+					if (!name.endsWith(".gz") && !name.endsWith(".zip") && Files.isRegularFile(file)) {
+						rotated.add(file);
+					}
+				}
+			}
+		}
+		Map<Path, Long> modified = new HashMap<>();
+		for (Path file : rotated) {
+			modified.put(file, Files.getLastModifiedTime(file).toMillis());
+		}
+		rotated.sort((a, b) -> {
+			int result = Long.compare(modified.get(a), modified.get(b));
+			return result != 0 ? result : a.compareTo(b);
+		});
+		if (Files.isRegularFile(logFile)) {
+			rotated.add(logFile);
+		}
+		return rotated;
+	}
+
+	/**
+	 * Index complete lines of log file not indexed yet.
+	 * <p/>
+	 *
+	 * @param fileIndex Index of log file.
+	 * @throws IOException when log file can't be read.
+	 */
+	private void index(final FileIndex fileIndex) throws IOException {
+		try (FileChannel channel = FileChannel.open(fileIndex.file, StandardOpenOption.READ)) {
+			long limit = completeLength(channel);
+			if (limit <= fileIndex.indexed) {
+				return;
+			}
+			RecordScanner scanner = new RecordScanner(channel, fileIndex.indexed, limit);
+			while (scanner.next()) {
+				boolean checkpoint = scanner.offset - fileIndex.lastCheckpoint >= CHECKPOINT_INTERVAL;
+				int level = scanner.level();
+				if (checkpoint || level >= MARK_LEVEL) {
+					long time = scanner.time();
+					if (time == Long.MIN_VALUE) {
+						continue;
+					}
+					if (checkpoint) {
+						fileIndex.addCheckpoint(scanner.offset, time);
+					}
+					if (level >= MARK_LEVEL) {
+						String logger = scanner.logger();
+						String shared = loggers.putIfAbsent(logger, logger);
+						fileIndex.addMark(scanner.offset, time, level, shared != null ? shared : logger);
+					}
+				}
+			}
+			fileIndex.indexed = limit;
+		}
+	}
+
+	/**
+	 * Constructs position of record in log file with given index.
+	 */
+	private Position position(final int file, final long offset, final long timeMillis) {
+		List<Path> following = new ArrayList<>();
+		for (int i = file + 1; i < files.size(); i++) {
+			following.add(files.get(i).file);
+		}
+		return new Position(files.get(file).file, offset, timeMillis, Collections.unmodifiableList(following));
+	}
+
+}
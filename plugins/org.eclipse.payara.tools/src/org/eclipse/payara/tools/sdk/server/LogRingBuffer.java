@@ -0,0 +1,326 @@
+/******************************************************************************
+ * Copyright (c) 2020 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.eclipse.payara.tools.sdk.server;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Single producer single consumer byte ring buffer passing log data from log
+ * fetcher task to console reader.
+ * <p/>
+ * Replaces <code>PipedInputStream</code> and <code>PipedOutputStream</code>
+ * pair. Bytes are handed over trough read and write positions without locking,
+ * waiting side is parked and unparked directly by the other side instead of
+ * waking up every second as pipe does. When buffer is full, writer waits for
+ * reader, so no log data are lost and fetcher runs only as fast as the console
+ * shows the log.
+ * <p/>
+ * Exactly one thread may write and exactly one thread may read at a time.
+ * <p/>
+ */
+final class LogRingBuffer {
+
+	////////////////////////////////////////////////////////////////////////////
+	// Inner classes //
+	////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * Reading side of the buffer.
+	 */
+	private final class Input extends InputStream {
+
+		@Override
+		public int read() throws IOException {
+			byte[] b = new byte[1];
+			return LogRingBuffer.this.read(b, 0, 1) < 0 ? -1 : b[0] & 0xFF;
+		}
+
+		@Override
+		public int read(final byte[] b, final int off, final int len) throws IOException {
+			return LogRingBuffer.this.read(b, off, len);
+		}
+
+		@Override
+		public int available() {
+			return (int) (tail.get() - head.get());
+		}
+
+		@Override
+		public void close() {
+			readerClosed = true;
+			LockSupport.unpark(writerThread);
+		}
+	}
+
+	/**
+	 * Writing side of the buffer.
+	 */
+	private final class Output extends OutputStream {
+
+		@Override
+		public void write(final int b) throws IOException {
+			LogRingBuffer.this.write(new byte[] { (byte) b }, 0, 1);
+		}
+
+		@Override
+		public void write(final byte[] b, final int off, final int len) throws IOException {
+			LogRingBuffer.this.write(b, off, len);
+		}
+
+		@Override
+		public void close() {
+			writerClosed = true;
+			LockSupport.unpark(readerThread);
+		}
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	// Class attributes //
+	////////////////////////////////////////////////////////////////////////////
+
+	/** Default buffer capacity, large enough for startup stack trace bursts. */
+	static final int DEFAULT_CAPACITY = 256 * 1024;
+
+	/**
+	 * Maximal time to stay parked without being unparked (in nanoseconds). Only
+	 * a safety net, waiting side is always unparked by the other side.
+	 */
+	private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+	////////////////////////////////////////////////////////////////////////////
+	// Instance attributes //
+	////////////////////////////////////////////////////////////////////////////
+
+	/** Buffer storage, its length is power of two. */
+	private final byte[] data;
+
+	/** Mask converting position to storage index. */
+	private final int mask;
+
+	/** Position of next byte to be read. Moved by reader only. */
+	private final AtomicLong head = new AtomicLong();
+
+	/** Position of next byte to be written. Moved by writer only. */
+	private final AtomicLong tail = new AtomicLong();
+
+	/** Reader waiting for data or <code>null</code>. */
+	private volatile Thread readerThread;
+
+	/** Writer waiting for space or <code>null</code>. */
+	private volatile Thread writerThread;
+
+	/** Writing side was closed, reader returns end of stream when drained. */
+	private volatile boolean writerClosed;
+
+	/** Reading side was closed, writer fails. */
+	private volatile boolean readerClosed;
+
+	/** Count of bytes written. */
+	private volatile long bytesWritten;
+
+	/** Reading side of the buffer. */
+	private final InputStream input = new Input();
+
+	/** Writing side of the buffer. */
+	private final OutputStream output = new Output();
+
+	////////////////////////////////////////////////////////////////////////////
+	// Constructors //
+	////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * Constructs an instance of log ring buffer.
+	 * <p/>
+	 *
+	 * @param capacity Requested capacity in bytes, rounded up to power of two.
+	 */
+	LogRingBuffer(final int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("Buffer capacity must be positive: " + capacity);
+		}
+		int size = Integer.highestOneBit(capacity);
+		if (size < capacity) {
+			size <<= 1;
+		}
+		this.data = new byte[size];
+		this.mask = size - 1;
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	// Getters //
+	////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * Get reading side of the buffer.
+	 * <p/>
+	 *
+	 * @return Input stream reading buffered data.
+	 */
+	InputStream getInputStream() {
+		return input;
+	}
+
+	/**
+	 * Get writing side of the buffer.
+	 * <p/>
+	 *
+	 * @return Output stream writing into the buffer.
+	 */
+	OutputStream getOutputStream() {
+		return output;
+	}
+
+	/**
+	 * Get buffer capacity.
+	 * <p/>
+	 *
+	 * @return Buffer capacity in bytes.
+	 */
+	int getCapacity() {
+		return data.length;
+	}
+
+	/**
+	 * Get count of bytes written into the buffer.
+	 * <p/>
+	 *
+	 * @return Count of bytes written into the buffer.
+	 */
+	long getBytesWritten() {
+		return bytesWritten;
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	// Methods //
+	////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * Read available data, waiting until at least one byte is available.
+	 * <p/>
+	 *
+	 * @return Count of bytes read or <code>-1</code> when writer was closed and
+	 *         all data were read.
+	 * @throws IOException when reader was closed or interrupted.
+	 */
+	private int read(final byte[] b, final int off, final int len) throws IOException {
+		if (off < 0 || len < 0 || len > b.length - off) {
+			throw new IndexOutOfBoundsException();
+		}
+		if (len == 0) {
+			return 0;
+		}
+		while (true) {
+			if (readerClosed) {
+				throw new IOException("Buffer closed");
+			}
+			long h = head.get();
+			long t = tail.get();
+			if (t > h) {
+				int count = (int) Math.min(t - h, len);
+				copyOut(h, b, off, count);
+				head.set(h + count);
+				LockSupport.unpark(writerThread);
+				return count;
+			} else if (writerClosed) {
+				if (tail.get() == h) {
+					return -1;
+				}
+			} else {
+				awaitData(h);
+			}
+		}
+	}
+
+	/**
+	 * Write all data, waiting for reader when buffer is full.
+	 * <p/>
+	 *
+	 * @throws IOException when either side was closed or writer was interrupted.
+	 */
+	private void write(final byte[] b, int off, int len) throws IOException {
+		if (off < 0 || len < 0 || len > b.length - off) {
+			throw new IndexOutOfBoundsException();
+		}
+		while (len > 0) {
+			if (writerClosed || readerClosed) {
+				throw new IOException("Buffer closed");
+			}
+			long t = tail.get();
+			long h = head.get();
+			int free = data.length - (int) (t - h);
+			if (free == 0) {
+				awaitSpace(t);
+				continue;
+			}
+			int count = Math.min(free, len);
+			copyIn(b, off, t, count);
+			tail.set(t + count);
+			bytesWritten += count;
+			LockSupport.unpark(readerThread);
+			off += count;
+			len -= count;
+		}
+	}
+
+	private void copyIn(final byte[] b, final int off, final long pos, final int count) {
+		int index = (int) pos & mask;
+		int first = Math.min(count, data.length - index);
+		System.arraycopy(b, off, data, index, first);
+		System.arraycopy(b, off + first, data, 0, count - first);
+	}
+
+	private void copyOut(final long pos, final byte[] b, final int off, final int count) {
+		int index = (int) pos & mask;
+		int first = Math.min(count, data.length - index);
+		System.arraycopy(data, index, b, off, first);
+		System.arraycopy(data, 0, b, off + first, count - first);
+	}
+
+	/**
+	 * Park reader until writer moves write position past given position.
+	 */
+	private void awaitData(final long h) throws InterruptedIOException {
+		readerThread = Thread.currentThread();
+		try {
+			while (tail.get() == h && !writerClosed && !readerClosed) {
+				LockSupport.parkNanos(this, MAX_PARK_NANOS);
+				if (Thread.interrupted()) {
+					throw new InterruptedIOException();
+				}
+			}
+		} finally {
+			readerThread = null;
+		}
+	}
+
+	/**
+	 * Park writer until reader frees some space.
+	 */
+	private void awaitSpace(final long t) throws InterruptedIOException {
+		writerThread = Thread.currentThread();
+		try {
+			while (t - head.get() == data.length && !writerClosed && !readerClosed) {
+				LockSupport.parkNanos(this, MAX_PARK_NANOS);
+				if (Thread.interrupted()) {
+					throw new InterruptedIOException();
+				}
+			}
+		} finally {
+			writerThread = null;
+		}
+	}
+
+}
@@ -0,0 +1,239 @@
+/******************************************************************************
+ * Copyright (c) 2020 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.eclipse.payara.tools.sdk.server;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.HttpURLConnection;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.zip.GZIPInputStream;
+
+import org.eclipse.payara.tools.sdk.admin.RunnerTransport;
+import org.eclipse.payara.tools.sdk.logging.Logger;
+import org.eclipse.payara.tools.sdk.utils.ServerUtils;
+import org.eclipse.payara.tools.server.PayaraServer;
+
+/**
+ * Payara remote server log streaming client.
+ * <p/>
+ * Reads server log using REST <code>view-log</code> resource directly, without
+ * passing requests trough administration command executors. Every response
+ * carries <code>X-Text-Append-Next</code> header with query to read only log
+ * lines added since previous request. Connections are not disconnected after
+ * request and share {@link RunnerTransport} with administration commands, so
+ * the underlying socket (and TLS session) is reused by subsequent requests.
+ * <p/>
+ * Polling delay adapts to log activity. It drops to {@link #MIN_POLL_DELAY}
+ * when new lines arrive and doubles up to {@link #MAX_POLL_DELAY} while log is
+ * idle.
+ * <p/>
+ */
+final class RemoteLogStream {
+
+	////////////////////////////////////////////////////////////////////////////
+	// Class attributes //
+	////////////////////////////////////////////////////////////////////////////
+
+	/** Logger instance for this class. */
+	private static final Logger LOGGER = new Logger(RemoteLogStream.class);
+
+	/** REST path of server log resource. */
+	private static final String VIEW_LOG_PATH = "/management/domain/view-log";
+
+	/** HTTP header containing URL to read next log lines. */
+	private static final String HEADER_APPEND_NEXT = "X-Text-Append-Next";
+
+	/** Polling delay used while log lines are arriving (in miliseconds). */
+	static final int MIN_POLL_DELAY = 100;
+
+	/** Maximal polling delay used while log is idle (in miliseconds). */
+	static final int MAX_POLL_DELAY = 5 * FetchLogPiped.LOG_REFRESH_DELAY;
+
+	/** Socket connection timeout (in miliseconds). */
+	private static final int CONNECTION_TIMEOUT = 3000;
+
+	/** Socket read timeout (in miliseconds). */
+	private static final int READ_TIMEOUT = 30000;
+
+	////////////////////////////////////////////////////////////////////////////
+	// Instance attributes //
+	////////////////////////////////////////////////////////////////////////////
+
+	/** Payara server to read log from. */
+	private final PayaraServer server;
+
+	/** Log resource URL, switched to HTTPS when server redirects. */
+	private URL url;
+
+	/** Query to read only log lines added since previous request. */
+	private String paramsAppendNext;
+
+	/** Current polling delay (in miliseconds). */
+	private int pollDelay = MIN_POLL_DELAY;
+
+	////////////////////////////////////////////////////////////////////////////
+	// Constructors //
+	////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * Constructs an instance of Payara remote server log streaming client.
+	 * <p/>
+	 *
+	 * @param server Payara server to read log from.
+	 * @throws IOException when log resource URL can't be constructed.
+	 */
+	RemoteLogStream(final PayaraServer server) throws IOException {
+		this.server = server;
+		try {
+			url = new URI("http", null, server.getHost(), server.getAdminPort(), VIEW_LOG_PATH, null, null).toURL();
+		} catch (URISyntaxException use) {
+			throw new MalformedURLException(use.getMessage());
+		}
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	// Methods //
+	////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * Read log lines added since previous call.
+	 * <p/>
+	 * First call returns whole server log.
+	 * <p/>
+	 *
+	 * @return Log lines added since previous call.
+	 * @throws IOException when reading from server failed.
+	 */
+	List<String> fetch() throws IOException {
+		final String METHOD = "fetch";
+		URL requestUrl = paramsAppendNext != null
+				? new URL(url.getProtocol(), url.getHost(), url.getPort(), url.getPath() + '?' + paramsAppendNext)
+				: url;
+		HttpURLConnection conn = openConnection(requestUrl);
+		int responseCode = conn.getResponseCode();
+		if (responseCode == HttpURLConnection.HTTP_MOVED_TEMP || responseCode == HttpURLConnection.HTTP_MOVED_PERM) {
+			String location = conn.getHeaderField("Location");
+			drain(conn);
+			if (location == null || location.trim().isEmpty()) {
+				throw new IOException(LOGGER.excMsg(METHOD, "invalidRedirect", requestUrl.toString()));
+			}
+			URL redirect = new URL(location);
+			LOGGER.log(Level.FINE, METHOD, "redirect", redirect);
+			url = new URL(redirect.getProtocol(), redirect.getHost(), redirect.getPort(), VIEW_LOG_PATH);
+			conn = openConnection(redirect);
+			responseCode = conn.getResponseCode();
+		}
+		if (responseCode != HttpURLConnection.HTTP_OK) {
+			drain(conn);
+			throw new IOException(LOGGER.excMsg(METHOD, "response", Integer.toString(responseCode)));
+		}
+		List<String> lines = readLines(conn);
+		String appendNext = conn.getHeaderField(HEADER_APPEND_NEXT);
+		if (appendNext != null) {
+			paramsAppendNext = new URL(appendNext).getQuery();
+		}
+		pollDelay = lines.isEmpty() ? Math.min(pollDelay * 2, MAX_POLL_DELAY) : MIN_POLL_DELAY;
+		return lines;
+	}
+
+	/**
+	 * Get delay before next {@link #fetch()} call.
+	 * <p/>
+	 *
+	 * @return Delay before next {@link #fetch()} call (in miliseconds).
+	 */
+	int pollDelay() {
+		return pollDelay;
+	}
+
+	/**
+	 * Open connection to Payara server log resource.
+	 * <p/>
+	 *
+	 * @param requestUrl Log resource URL.
+	 * @return Opened connection.
+	 * @throws IOException when connection can't be opened.
+	 */
+	private HttpURLConnection openConnection(final URL requestUrl) throws IOException {
+		HttpURLConnection conn = (HttpURLConnection) requestUrl.openConnection();
+		RunnerTransport.prepare(server, conn);
+		conn.setAllowUserInteraction(false);
+		conn.setInstanceFollowRedirects(false);
+		conn.setUseCaches(false);
+		conn.setConnectTimeout(CONNECTION_TIMEOUT);
+		conn.setReadTimeout(READ_TIMEOUT);
+		conn.setRequestMethod("GET");
+		conn.setRequestProperty("Accept-Encoding", "gzip");
+		conn.setRequestProperty("X-Requested-By", "GlassFish REST HTML interface");
+		String adminUser = server.getAdminUser();
+		if (adminUser != null && adminUser.length() > 0) {
+			String adminPassword = server.getAdminPassword();
+			conn.setRequestProperty("Authorization", "Basic "
+					+ ServerUtils.basicAuthCredentials(adminUser, adminPassword != null ? adminPassword : ""));
+		}
+		return conn;
+	}
+
+	/**
+	 * Read all log lines from response.
+	 * <p/>
+	 * Response body is fully consumed so the connection can be reused.
+	 * <p/>
+	 *
+	 * @param conn Connection to read response from.
+	 * @return Log lines from response.
+	 * @throws IOException when reading failed.
+	 */
+	private static List<String> readLines(final HttpURLConnection conn) throws IOException {
+		List<String> lines = new ArrayList<>();
+		String ce = conn.getContentEncoding();
+		InputStream in = conn.getInputStream();
+		try (BufferedReader br = new BufferedReader(
+				new InputStreamReader(ce != null && ce.contains("gzip") ? new GZIPInputStream(in) : in))) {
+			String line;
+			while ((line = br.readLine()) != null) {
+				lines.add(line);
+			}
+		}
+		return lines;
+	}
+
+	/**
+	 * Consume and close response body we are not interested in so the connection
+	 * can be reused.
+	 * <p/>
+	 *
+	 * @param conn Connection to drain.
+	 */
+	private static void drain(final HttpURLConnection conn) {
+		InputStream in = conn.getErrorStream();
+		try {
+			if (in == null) {
+				in = conn.getInputStream();
+			}
+			byte[] buffer = new byte[1024];
+			while (in.read(buffer) >= 0) {
+				// Discard.
+			}
+			in.close();
+		} catch (IOException ioe) {
+			RunnerTransport.release(conn, false);
+		}
+	}
+
+}
@@ -24,7 +24,6 @@ import static java.util.stream.Collectors.toList;
 import static org.eclipse.payara.tools.sdk.server.JDK.isCorrectJDK;
 import static org.eclipse.payara.tools.sdk.server.JDK.JDK_VERSION;
 import static org.eclipse.payara.tools.sdk.server.ServerTasks.StartMode.DEBUG;
-import static org.eclipse.payara.tools.sdk.server.parser.TreeParser.readXml;
 import static org.eclipse.payara.tools.sdk.utils.JavaUtils.javaVmExecutableFullPath;
 import static org.eclipse.payara.tools.sdk.utils.JavaUtils.javaVmVersion;
 import static org.eclipse.payara.tools.sdk.utils.ServerUtils.GFV3_JAR_MATCHER;
@@ -59,7 +58,7 @@ import org.eclipse.payara.tools.sdk.admin.ResultProcess;
 import org.eclipse.payara.tools.sdk.admin.ServerAdmin;
 import org.eclipse.payara.tools.sdk.data.StartupArgs;
 import org.eclipse.payara.tools.sdk.logging.Logger;
-import org.eclipse.payara.tools.sdk.server.parser.JvmConfigReader;
+import org.eclipse.payara.tools.sdk.server.parser.DomainConfigReader;
 import org.eclipse.payara.tools.sdk.server.parser.JvmConfigReader.JvmOption;
 import org.eclipse.payara.tools.sdk.utils.JavaUtils;
 import org.eclipse.payara.tools.sdk.utils.JavaUtils.JavaVersion;
@@ -101,6 +100,9 @@ public class ServerTasks {
 	private static Pattern debugPortPattern = Pattern.compile("-\\S+jdwp[:=]\\S*address=([0-9]+)");
 	private static Pattern debugSuspendPattern = Pattern.compile("-\\S+jdwp[:=]\\S*suspend=([n]+)");
 
+	/** Launch plans of recently started servers. */
+	private static final LaunchPlanCache LAUNCH_PLANS = new LaunchPlanCache();
+
 	private static final Set<String> MULTI_VALUE_OPTIONS = new HashSet<>(Arrays.asList("--add-exports", "--add-modules",
 			"--add-opens", "--add-reads", "--limit-modules", "--patch-module"));
 
@@ -138,25 +140,90 @@ public class ServerTasks {
 			boolean suspendOnStart) throws PayaraIdeException {
 		String METHOD = "startServer";
 
-		// Reading jvm config section from domain.xml
-		JvmConfigReader jvmConfigReader = new JvmConfigReader(DAS_NAME);
 		String domainAbsolutePath = server.getDomainsFolder() + separator + server.getDomainName();
+		List<Object> planKey = launchPlanKey(server, args, mode, suspendOnStart, domainAbsolutePath);
+		LaunchPlanCache.Plan plan = LAUNCH_PLANS.get(planKey);
+		if (plan == null) {
+			LaunchPlanCache.Ticket ticket = LAUNCH_PLANS.prepare(Paths.get(domainAbsolutePath, "config"));
+			plan = buildLaunchPlan(server, args, mode, suspendOnStart, domainAbsolutePath);
+			LAUNCH_PLANS.put(planKey, ticket, plan);
+		} else {
+			LOGGER.log(Level.FINE, METHOD, "cached", domainAbsolutePath);
+		}
+
+		// Starting the server using command
+
+		try {
+			return ServerAdmin.<ResultProcess>exec(server, new CommandStartDAS(plan.javaHome, plan.classPath,
+					plan.javaOpts, plan.glassfishArgs, plan.domainDir)).get();
+		} catch (InterruptedException | ExecutionException e) {
+			throw new PayaraIdeException(LOGGER.excMsg(METHOD, "failed"), e);
+		}
+	}
+
+	/**
+	 * Build key of launch plan from all its inputs except <code>domain.xml</code>
+	 * content.
+	 * <p/>
+	 *
+	 * @param server             Payara server entity.
+	 * @param args               Startup arguments provided by caller.
+	 * @param mode               Mode which we are starting GF in.
+	 * @param suspendOnStart     Suspend server Java VM in debug mode.
+	 * @param domainAbsolutePath Domain directory.
+	 * @return Launch plan key.
+	 */
+	private static List<Object> launchPlanKey(PayaraServer server, StartupArgs args, StartMode mode,
+			boolean suspendOnStart, String domainAbsolutePath) {
+		return asList(domainAbsolutePath, server.getServerHome(), server.getServerRoot(), args.getJavaHome(), mode,
+				suspendOnStart, copyOf(args.getJavaArgs()), copyOf(args.getGlassfishArgs()),
+				System.getenv("CLASSPATH"));
+	}
+
+	private static List<String> copyOf(List<String> list) {
+		return list != null ? new ArrayList<>(list) : null;
+	}
+
+	/**
+	 * Compute <code>CommandStartDAS</code> arguments.
+	 * <p/>
+	 * Reads <code>domain.xml</code>, filters its Java VM options by target JDK,
+	 * finds bootstrap jar and computes class path.
+	 * <p/>
+	 *
+	 * @param server             Payara server entity.
+	 * @param args               Startup arguments provided by caller.
+	 * @param mode               Mode which we are starting GF in.
+	 * @param suspendOnStart     Suspend server Java VM in debug mode.
+	 * @param domainAbsolutePath Domain directory.
+	 * @return Launch plan.
+	 * @throws PayaraIdeException when domain configuration can't be read or
+	 *                            bootstrap jar is missing.
+	 */
+	private static LaunchPlanCache.Plan buildLaunchPlan(PayaraServer server, StartupArgs args, StartMode mode,
+			boolean suspendOnStart, String domainAbsolutePath) throws PayaraIdeException {
+		final String METHOD = "buildLaunchPlan";
+
+		// Reading jvm config section from domain.xml
 		String domainXmlPath = domainAbsolutePath + separator + "config" + separator + "domain.xml";
-		if (!readXml(new File(domainXmlPath), jvmConfigReader)) {
-			throw new PayaraIdeException(LOGGER.excMsg(METHOD, "readXMLerror"), domainXmlPath);
+		DomainConfigReader domainConfig;
+		try {
+			domainConfig = DomainConfigReader.read(new File(domainXmlPath));
+		} catch (IllegalStateException ise) {
+			throw new PayaraIdeException(LOGGER.excMsg(METHOD, "readXMLerror", domainXmlPath), ise);
 		}
 
 		JDK.Version jdkVersion = getJavaVersion(args);
 		JDK.Version targetJDKVersion = jdkVersion != null ? jdkVersion : JDK_VERSION;
 
 		// Filter out all options that are not applicable
-		List<String> optList = jvmConfigReader
+		List<String> optList = domainConfig
 				.getJvmOptions().stream().filter(fullOption -> isCorrectJDK(targetJDKVersion, fullOption.vendor,
 						fullOption.minVersion, fullOption.maxVersion))
 				.map(fullOption -> fullOption.option).collect(toList());
 
-		Map<String, String> propMap = jvmConfigReader.getPropMap();
-		addJavaAgent(server, jvmConfigReader);
+		Map<String, String> propMap = domainConfig.getPropMap();
+		addJavaAgent(server, new ArrayList<>(domainConfig.getJvmOptions()), domainConfig.isMonitoringEnabled());
 
 		// Try to find bootstraping jar - usually glassfish.jar
 		File bootstrapJar = getJarName(server.getServerHome(), GFV3_JAR_MATCHER);
@@ -206,14 +273,8 @@ public class ServerTasks {
 			appendGlassfishArgs(glassfishArgs, args.getGlassfishArgs());
 		}
 
-		// Starting the server using command
-
-		try {
-			return ServerAdmin.<ResultProcess>exec(server, new CommandStartDAS(args.getJavaHome(), classPath,
-					javaOpts.toString(), glassfishArgs.toString(), domainAbsolutePath)).get();
-		} catch (InterruptedException | ExecutionException e) {
-			throw new PayaraIdeException(LOGGER.excMsg(METHOD, "failed"), e);
-		}
+		return new LaunchPlanCache.Plan(args.getJavaHome(), classPath, javaOpts.toString(),
+				glassfishArgs.toString(), domainAbsolutePath);
 	}
 
 	private static JDK.Version getJavaVersion(StartupArgs args) {
@@ -223,18 +284,16 @@ public class ServerTasks {
 
 		if (selectedPath.equals(defaultPath)
 				|| (javaHome.endsWith("jre") && selectedPath.equals(defaultPath.getParent()))) {
-			System.out.println("same same " + defaultPath + selectedPath);
 			return JDK_VERSION;
 		}
 
-		String[] versions = JavaUtils.getJavaVersionString(args.getJavaHome()).split(":");
-		JDK.Version targetJDKVersion = null;
-
-		if (versions.length > 0) {
-			targetJDKVersion = JDK.getVersion(versions[0], System.getProperty("java.vendor"));
+		// Cached, does not execute Java VM once its version is known
+		String version = JavaUtils.getJavaVersionString(args.getJavaHome());
+		if (version == null) {
+			return null;
 		}
 
-		return targetJDKVersion;
+		return JDK.getVersion(version, System.getProperty("java.vendor"));
 	}
 
 	public static Integer getDebugPort(ResultProcess process) {
@@ -268,16 +327,16 @@ public class ServerTasks {
 	 * Add java agents into server options.
 	 * <p/>
 	 *
-	 * @param server          GlassFish server entity.
-	 * @param jvmConfigReader Contains <code>jvm-options</code> from
-	 *                        <code>domain.xwl</code>.
+	 * @param server            GlassFish server entity.
+	 * @param optList           Contains <code>jvm-options</code> from
+	 *                          <code>domain.xwl</code>.
+	 * @param monitoringEnabled Monitoring is enabled in <code>domain.xml</code>.
 	 */
-	private static void addJavaAgent(PayaraServer server, JvmConfigReader jvmConfigReader) {
-		List<JvmOption> optList = jvmConfigReader.getJvmOptions();
+	private static void addJavaAgent(PayaraServer server, List<JvmOption> optList, boolean monitoringEnabled) {
 		File serverHome = new File(server.getServerHome());
 		File btrace = new File(serverHome, "lib/monitor/btrace-agent.jar");
 		File flight = new File(serverHome, "lib/monitor/flashlight-agent.jar");
-		if (jvmConfigReader.isMonitoringEnabled()) {
+		if (monitoringEnabled) {
 			if (btrace.exists()) {
 				optList.add(new JvmOption(
 						"-javaagent:" + Utils.quote(btrace.getAbsolutePath()) + "=unsafe=true,noServer=true")); // NOI18N
@@ -0,0 +1,211 @@
+/******************************************************************************
+ * Copyright (c) 2020 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.eclipse.payara.tools.sdk.server.parser;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.payara.tools.sdk.server.parser.JvmConfigReader.JvmOption;
+
+/**
+ * Reads everything IDE needs from domain.xml in single parser pass.
+ * <p/>
+ * Target config name, HTTP and network listeners of target config and JVM
+ * configuration of target server are read together. Target config is resolved
+ * while parsing, servers are listed before configs in domain.xml.
+ * <p/>
+ * Read configurations are cached by file path, size and modification time so
+ * repeated server starts and validations do not parse unchanged domain.xml
+ * again.
+ * <p/>
+ */
+public class DomainConfigReader implements XMLReader {
+
+	////////////////////////////////////////////////////////////////////////////
+	// Inner classes //
+	////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * Cached domain configuration with file attributes it was read from.
+	 */
+	private static final class CachedConfig {
+
+		/** Size of domain.xml when it was read. */
+		private final long size;
+
+		/** Modification time of domain.xml when it was read. */
+		private final long lastModified;
+
+		/** Domain configuration read from domain.xml. */
+		private final DomainConfigReader config;
+
+		private CachedConfig(final long size, final long lastModified, final DomainConfigReader config) {
+			this.size = size;
+			this.lastModified = lastModified;
+			this.config = config;
+		}
+
+		private boolean isValid(final File domainXml) {
+			return size == domainXml.length() && lastModified == domainXml.lastModified();
+		}
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	// Class attributes //
+	////////////////////////////////////////////////////////////////////////////
+
+	/** Read configurations mapped to domain.xml absolute path. */
+	private static final Map<String, CachedConfig> cache = new ConcurrentHashMap<>();
+
+	////////////////////////////////////////////////////////////////////////////
+	// Static methods //
+	////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * Get configuration of default target server from domain.xml.
+	 * <p/>
+	 * Configuration is read again only when domain.xml size or modification time
+	 * changed since last read. Returned configuration must not be modified.
+	 * <p/>
+	 *
+	 * @param domainXml Domain configuration file.
+	 * @return Configuration of default target server.
+	 * @throws IllegalStateException when domain.xml can't be parsed.
+	 */
+	public static DomainConfigReader read(final File domainXml) throws IllegalStateException {
+		String key = domainXml.getAbsolutePath();
+		CachedConfig cached = cache.get(key);
+		if (cached != null && cached.isValid(domainXml)) {
+			return cached.config;
+		}
+		long size = domainXml.length();
+		long lastModified = domainXml.lastModified();
+		DomainConfigReader config = new DomainConfigReader();
+		TreeParser.readXml(domainXml, config);
+		cache.put(key, new CachedConfig(size, lastModified, config));
+		return config;
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	// Instance attributes //
+	////////////////////////////////////////////////////////////////////////////
+
+	/** Target config name reader. */
+	private final TargetConfigNameReader configNameReader;
+
+	/** HTTP listeners reader. */
+	private final HttpListenerReader httpListenerReader;
+
+	/** Network listeners reader. */
+	private final NetworkListenerReader networkListenerReader;
+
+	/** JVM configuration reader. */
+	private final JvmConfigReader jvmConfigReader;
+
+	////////////////////////////////////////////////////////////////////////////
+	// Constructors //
+	////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * Constructs an instance of domain.xml reader for default target server.
+	 */
+	public DomainConfigReader() {
+		this(TargetConfigNameReader.DEFAULT_TARGET);
+	}
+
+	/**
+	 * Constructs an instance of domain.xml reader for given target server.
+	 * <p/>
+	 *
+	 * @param targetName Target server name.
+	 */
+	public DomainConfigReader(final String targetName) {
+		configNameReader = new TargetConfigNameReader(targetName);
+		httpListenerReader = new HttpListenerReader(configNameReader);
+		networkListenerReader = new NetworkListenerReader(configNameReader);
+		jvmConfigReader = new JvmConfigReader(targetName);
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	// Methods //
+	////////////////////////////////////////////////////////////////////////////
+
+	@Override
+	public List<TreeParser.Path> getPathsToListen() {
+		List<TreeParser.Path> paths = new ArrayList<>();
+		paths.addAll(configNameReader.getPathsToListen());
+		paths.addAll(httpListenerReader.getPathsToListen());
+		paths.addAll(networkListenerReader.getPathsToListen());
+		paths.addAll(jvmConfigReader.getPathsToListen());
+		return paths;
+	}
+
+	/**
+	 * Get name of target config.
+	 * <p/>
+	 *
+	 * @return Name of target config or <code>null</code> when target server was
+	 *         not found.
+	 */
+	public String getTargetConfigName() {
+		return configNameReader.getTargetConfigName();
+	}
+
+	/**
+	 * Get enabled HTTP and network listeners of target config.
+	 * <p/>
+	 * Network listeners replace HTTP listeners with the same name.
+	 * <p/>
+	 *
+	 * @return Enabled listeners mapped to listener name.
+	 */
+	public Map<String, HttpData> getHttpListeners() {
+		Map<String, HttpData> listeners = new LinkedHashMap<>();
+		listeners.putAll(httpListenerReader.getResult());
+		listeners.putAll(networkListenerReader.getResult());
+		return listeners;
+	}
+
+	/**
+	 * Get <code>jvm-options</code> of target config.
+	 * <p/>
+	 *
+	 * @return Unmodifiable list of <code>jvm-options</code>.
+	 */
+	public List<JvmOption> getJvmOptions() {
+		return Collections.unmodifiableList(jvmConfigReader.getJvmOptions());
+	}
+
+	/**
+	 * Get <code>java-config</code> attributes of target config.
+	 * <p/>
+	 *
+	 * @return Unmodifiable map of <code>java-config</code> attributes.
+	 */
+	public Map<String, String> getPropMap() {
+		return Collections.unmodifiableMap(jvmConfigReader.getPropMap());
+	}
+
+	/**
+	 * Get monitoring status of target config.
+	 * <p/>
+	 *
+	 * @return Value of <code>true</code> when monitoring is enabled.
+	 */
+	public boolean isMonitoringEnabled() {
+		return jvmConfigReader.isMonitoringEnabled();
+	}
+
+}
@@ -62,6 +62,12 @@ public class HttpListenerReader extends TargetConfigReader implements XMLReader
 		this.result = new HashMap<>();
 	}
 
+	public HttpListenerReader(TargetConfigNameReader targetConfigNameReader) {
+		super(targetConfigNameReader);
+		this.path = DEFAULT_PATH;
+		this.result = new HashMap<>();
+	}
+
 	@Override
 	public void readAttributes(String qname, Attributes attributes) throws SAXException {
 		final String METHOD = "readAttributes";
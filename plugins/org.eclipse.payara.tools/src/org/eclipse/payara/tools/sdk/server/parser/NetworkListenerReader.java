@@ -62,6 +62,12 @@ public class NetworkListenerReader extends TargetConfigReader implements XMLRead
 		this.result = new HashMap<>();
 	}
 
+	public NetworkListenerReader(TargetConfigNameReader targetConfigNameReader) {
+		super(targetConfigNameReader);
+		this.path = DEFAULT_PATH;
+		this.result = new HashMap<>();
+	}
+
 	@Override
 	public void readAttributes(String qname, Attributes attributes) throws SAXException {
 		final String METHOD = "readAttributes";
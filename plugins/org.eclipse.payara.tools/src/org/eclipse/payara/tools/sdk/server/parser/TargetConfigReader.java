@@ -35,20 +35,34 @@ class TargetConfigReader extends NodeListener {
 
 	public static final String DEFAULT_TARGET = "server";
 
-	protected static boolean readData = false;
+	protected boolean readData = false;
 
 	private String targetConfigName = null;
 
+	private TargetConfigNameReader targetConfigNameReader = null;
+
 	public TargetConfigReader(String targetConfigName) {
 		this.targetConfigName = targetConfigName;
-		// TODO all parsing has to be rewritten at some point
-		TargetConfigReader.readData = false;
+	}
+
+	/**
+	 * Reads target config name from given reader when config element is reached,
+	 * so both can be read in single parser pass. Servers are listed before
+	 * configs in domain.xml.
+	 */
+	public TargetConfigReader(TargetConfigNameReader targetConfigNameReader) {
+		this.targetConfigNameReader = targetConfigNameReader;
+	}
+
+	private String getTargetConfigName() {
+		return targetConfigNameReader != null ? targetConfigNameReader.getTargetConfigName() : targetConfigName;
 	}
 
 	class TargetConfigMarker extends NodeListener {
 
 		@Override
 		public void readAttributes(String qname, Attributes attributes) throws SAXException {
+			String targetConfigName = getTargetConfigName();
 			if ((targetConfigName != null) && attributes.getValue("name").equalsIgnoreCase(targetConfigName)) {
 				readData = true;
 			}
@@ -69,6 +69,32 @@ public final class TreeParser extends DefaultHandler {
 	 */
 	private static final EntityResolver DUMMY_RESOLVER = (string, string1) -> new InputSource(new StringReader(""));
 
+	/**
+	 * SAX parser factory shared by all parser passes.
+	 * <p/>
+	 * !PW If namespace-aware is enabled, make sure localpart and qname are treated
+	 * correctly in the handler code.
+	 */
+	private static final SAXParserFactory FACTORY = SAXParserFactory.newInstance();
+
+	static {
+		FACTORY.setNamespaceAware(false);
+	}
+
+	/**
+	 * Creates new SAX parser using shared factory.
+	 * <p/>
+	 * Factory is not guaranteed to be thread safe so access is serialized.
+	 * <p/>
+	 *
+	 * @return New SAX parser.
+	 */
+	private static SAXParser newSAXParser() throws ParserConfigurationException, SAXException {
+		synchronized (FACTORY) {
+			return FACTORY.newSAXParser();
+		}
+	}
+
 	public static boolean readXml(File xmlFile, XMLReader... pathList) throws IllegalStateException {
 		final String METHOD = "readXml";
 		boolean result = false;
@@ -76,12 +102,7 @@ public final class TreeParser extends DefaultHandler {
 		try {
 			// !PW FIXME what to do about entity resolvers? Timed out when
 			// looking up doctype for sun-resources.xml earlier today (Jul 10)
-			SAXParserFactory factory = SAXParserFactory.newInstance();
-			// !PW If namespace-aware is enabled, make sure localpart and
-			// qname are treated correctly in the handler code.
-			//
-			factory.setNamespaceAware(false);
-			SAXParser saxParser = factory.newSAXParser();
+			SAXParser saxParser = newSAXParser();
 			org.xml.sax.XMLReader reader = saxParser.getXMLReader();
 
 			reader.setEntityResolver(DUMMY_RESOLVER);
@@ -111,12 +132,7 @@ public final class TreeParser extends DefaultHandler {
 		try {
 			// !PW FIXME what to do about entity resolvers? Timed out when
 			// looking up doctype for sun-resources.xml earlier today (Jul 10)
-			SAXParserFactory factory = SAXParserFactory.newInstance();
-			// !PW If namespace-aware is enabled, make sure localpart and
-			// qname are treated correctly in the handler code.
-			//
-			factory.setNamespaceAware(false);
-			SAXParser saxParser = factory.newSAXParser();
+			SAXParser saxParser = newSAXParser();
 			DefaultHandler handler = new TreeParser(pathList);
 			is = new BufferedInputStream(xmlFile.openStream());
 			saxParser.parse(new InputSource(is), handler);
@@ -269,6 +285,51 @@ public final class TreeParser extends DefaultHandler {
 		}
 	}
 
+	/**
+	 * Node listener forwarding all events to several node listeners.
+	 */
+	private static class NodeListeners extends NodeListener {
+
+		private final List<NodeListener> listeners = new ArrayList<>(2);
+
+		private NodeListeners(NodeListener first, NodeListener second) {
+			listeners.add(first);
+			listeners.add(second);
+		}
+
+		private void add(NodeListener listener) {
+			listeners.add(listener);
+		}
+
+		@Override
+		public void readAttributes(String qname, Attributes attributes) throws SAXException {
+			for (NodeListener listener : listeners) {
+				listener.readAttributes(qname, attributes);
+			}
+		}
+
+		@Override
+		public void readChildren(String qname, Attributes attributes) throws SAXException {
+			for (NodeListener listener : listeners) {
+				listener.readChildren(qname, attributes);
+			}
+		}
+
+		@Override
+		public void readCData(String qname, char[] ch, int start, int length) throws SAXException {
+			for (NodeListener listener : listeners) {
+				listener.readCData(qname, ch, start, length);
+			}
+		}
+
+		@Override
+		public void endNode(String qname) throws SAXException {
+			for (NodeListener listener : listeners) {
+				listener.endNode(qname);
+			}
+		}
+	}
+
 	public static class Path {
 
 		private final String path;
@@ -336,8 +397,8 @@ public final class TreeParser extends DefaultHandler {
 					LOGGER.log(Level.WARNING, METHOD, "broken", new Object[] { path, Integer.toString(i) });
 				}
 			}
-			if (rover != null) {
-				rover.setReader(path.getReader());
+			if (rover != null && path.getReader() != null) {
+				rover.addReader(path.getReader());
 			}
 		}
 		return root;
@@ -385,6 +446,20 @@ public final class TreeParser extends DefaultHandler {
 			this.reader = reader;
 		}
 
+		/**
+		 * Adds reader of this node. Readers of several {@link XMLReader}s
+		 * listening to the same path are all notified in registration order.
+		 */
+		public void addReader(TreeParser.NodeListener reader) {
+			if (this.reader == null) {
+				this.reader = reader;
+			} else if (this.reader instanceof TreeParser.NodeListeners) {
+				((TreeParser.NodeListeners) this.reader).add(reader);
+			} else {
+				this.reader = new TreeParser.NodeListeners(this.reader, reader);
+			}
+		}
+
 		@Override
 		public int compareTo(TreeParser.Node o) {
 			return element.compareTo(o.element);
@@ -0,0 +1,357 @@
+/******************************************************************************
+ * Copyright (c) 2020 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.eclipse.payara.tools.sdk.utils;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.logging.Level.FINE;
+import static java.util.logging.Level.WARNING;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.payara.tools.sdk.logging.Logger;
+
+/**
+ * Java VM metadata service.
+ * <p/>
+ * Detects version of Java VM executable without running it when possible. JDK
+ * <code>release</code> file is read first, Java VM is executed with
+ * <code>-version</code> only when there is no such file. Results are cached
+ * keyed by absolute path of Java VM executable together with its size and
+ * modification time, so replaced executable is detected again. When cache file
+ * is set, results are persisted there and survive restarts.
+ * <p/>
+ */
+public class JavaVmMetadata {
+
+	////////////////////////////////////////////////////////////////////////////
+	// Inner classes //
+	////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * Cached version of single Java VM executable.
+	 */
+	private static final class Entry {
+
+		/** Size of Java VM executable when version was detected. */
+		private final long size;
+
+		/** Modification time of Java VM executable when version was detected. */
+		private final long modified;
+
+		/** Java VM version, value of <code>java.version</code> property. */
+		private final String version;
+
+		private Entry(final long size, final long modified, final String version) {
+			this.size = size;
+			this.modified = modified;
+			this.version = version;
+		}
+
+		/**
+		 * Check if entry still describes given Java VM executable.
+		 */
+		private boolean matches(final File javaVm) {
+			return size == javaVm.length() && modified == javaVm.lastModified();
+		}
+
+		/**
+		 * Parse entry from persisted value or return <code>null</code> when
+		 * value is malformed.
+		 */
+		private static Entry parse(final String value) {
+			String[] tokens = value.split(SEPARATOR, 3);
+			if (tokens.length != 3) {
+				return null;
+			}
+			try {
+				return new Entry(Long.parseLong(tokens[0]), Long.parseLong(tokens[1]), tokens[2]);
+			} catch (NumberFormatException nfe) {
+				return null;
+			}
+		}
+
+		@Override
+		public String toString() {
+			return size + SEPARATOR + modified + SEPARATOR + version;
+		}
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	// Class attributes //
+	////////////////////////////////////////////////////////////////////////////
+
+	/** Logger instance for this class. */
+	private static final Logger LOGGER = new Logger(JavaVmMetadata.class);
+
+	/** JDK release file name. */
+	private static final String RELEASE_FILE = "release";
+
+	/** JDK release file property containing Java version. */
+	private static final String RELEASE_VERSION = "JAVA_VERSION";
+
+	/** Directory of JRE embedded in JDK 8 and older. */
+	private static final String JRE_DIR = "jre";
+
+	/** Java VM command line option to retrieve version. */
+	private static final String VM_VERSION_OPT = "-version";
+
+	/**
+	 * Time to wait for Java VM executed to detect its version to exit, and then
+	 * for its output to end (in seconds).
+	 */
+	private static final long PROCESS_TIMEOUT = 10;
+
+	/** Quoted version in <code>java -version</code> output. */
+	private static final Pattern VERSION_OUTPUT = Pattern.compile("version \"([^\"]+)\"");
+
+	/** Separator of persisted entry fields. */
+	private static final String SEPARATOR = ":";
+
+	/** Cached versions keyed by absolute path of Java VM executable. */
+	private static final Map<String, Entry> cache = new ConcurrentHashMap<>();
+
+	/** File where cached versions are persisted or <code>null</code>. */
+	private static volatile File cacheFile;
+
+	////////////////////////////////////////////////////////////////////////////
+	// Static methods //
+	////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * Set file where detected versions are persisted and load versions stored
+	 * there before.
+	 * <p/>
+	 *
+	 * @param file Cache file, <code>null</code> keeps versions in memory only.
+	 */
+	public static synchronized void setCacheFile(final File file) {
+		cacheFile = file;
+		if (file == null || !file.isFile()) {
+			return;
+		}
+		Properties properties = new Properties();
+		try (FileInputStream fis = new FileInputStream(file)) {
+			properties.load(fis);
+		} catch (IOException ioe) {
+			LOGGER.log(WARNING, "setCacheFile", "unreadable", file.getPath());
+			return;
+		}
+		for (String path : properties.stringPropertyNames()) {
+			Entry entry = Entry.parse(properties.getProperty(path));
+			if (entry != null) {
+				cache.putIfAbsent(path, entry);
+			}
+		}
+	}
+
+	/**
+	 * Get version of Java VM executable.
+	 * <p/>
+	 * Returned value has the same format as <code>java.version</code> system
+	 * property of that Java VM, e.g. <code>1.8.0_252</code> or
+	 * <code>11.0.7</code>.
+	 * <p/>
+	 *
+	 * @param javaVm Java VM executable.
+	 * @return Java VM version or <code>null</code> when it could not be
+	 *         detected.
+	 */
+	public static String version(final File javaVm) {
+		File exe = javaVm.getAbsoluteFile();
+		String path = exe.getPath();
+		Entry entry = cache.get(path);
+		if (entry != null && entry.matches(exe)) {
+			return entry.version;
+		}
+		// Take size and time before detection, so executable replaced meanwhile
+		// is detected again next time.
+		long size = exe.length();
+		long modified = exe.lastModified();
+		String version = releaseVersion(exe);
+		if (version == null) {
+			version = executeVersion(exe);
+		}
+		if (version != null) {
+			cache.put(path, new Entry(size, modified, version));
+			save();
+		}
+		return version;
+	}
+
+	/**
+	 * Get version of Java VM executable parsed into its components.
+	 * <p/>
+	 *
+	 * @param javaVm Java VM executable.
+	 * @return Java VM version or <code>null</code> when it could not be
+	 *         detected.
+	 */
+	public static JavaUtils.JavaVersion javaVersion(final File javaVm) {
+		String version = version(javaVm);
+		return version != null ? JavaUtils.parseJavaVersion(version) : null;
+	}
+
+	/**
+	 * Read Java version from <code>release</code> file of JDK or JRE containing
+	 * given Java VM executable.
+	 * <p/>
+	 *
+	 * @param javaVm Java VM executable.
+	 * @return Java VM version or <code>null</code> when there is no release
+	 *         file or it does not contain version.
+	 */
+	private static String releaseVersion(final File javaVm) {
+		File bin = javaVm.getParentFile();
+		File home = bin != null ? bin.getParentFile() : null;
+		if (home == null) {
+			return null;
+		}
+		File release = new File(home, RELEASE_FILE);
+		// JDK 8 and older keep release file above embedded JRE.
+		if (!release.isFile() && JRE_DIR.equals(home.getName()) && home.getParentFile() != null) {
+			release = new File(home.getParentFile(), RELEASE_FILE);
+		}
+		if (!release.isFile()) {
+			return null;
+		}
+		Properties properties = new Properties();
+		try (FileInputStream fis = new FileInputStream(release)) {
+			properties.load(fis);
+		} catch (IOException ioe) {
+			LOGGER.log(FINE, "releaseVersion", "unreadable", release.getPath());
+			return null;
+		}
+		String version = properties.getProperty(RELEASE_VERSION);
+		if (version == null) {
+			return null;
+		}
+		version = version.trim();
+		if (version.length() > 1 && version.startsWith("\"") && version.endsWith("\"")) {
+			version = version.substring(1, version.length() - 1);
+		}
+		return version.isEmpty() ? null : version;
+	}
+
+	/**
+	 * Execute <code>java -version</code> and read quoted version from its
+	 * output.
+	 * <p/>
+	 *
+	 * @param javaVm Java VM executable.
+	 * @return Java VM version or <code>null</code> when execution failed.
+	 */
+	private static String executeVersion(final File javaVm) {
+		ProcessBuilder pb = new ProcessBuilder(javaVm.getPath(), VM_VERSION_OPT);
+		pb.redirectErrorStream(true);
+		Process process;
+		try {
+			process = pb.start();
+		} catch (IOException | SecurityException e) {
+			LOGGER.log(WARNING, "executeVersion", "failed", e);
+			return null;
+		}
+		// Output is drained on its own thread, so Java VM that hangs without
+		// closing its output can't block the caller past the timeout.
+		FutureTask<String> output = new FutureTask<>(() -> readVersion(process));
+		Thread reader = new Thread(output, "Java VM version reader");
+		reader.setDaemon(true);
+		reader.start();
+		String version = null;
+		try {
+			if (!process.waitFor(PROCESS_TIMEOUT, SECONDS)) {
+				LOGGER.log(WARNING, "executeVersion", "timeout", javaVm.getPath());
+				process.destroyForcibly();
+			}
+			version = output.get(PROCESS_TIMEOUT, SECONDS);
+		} catch (ExecutionException ee) {
+			LOGGER.log(WARNING, "executeVersion", "failed", ee.getCause());
+		} catch (TimeoutException te) {
+			LOGGER.log(WARNING, "executeVersion", "outputTimeout", javaVm.getPath());
+		} catch (InterruptedException ie) {
+			Thread.currentThread().interrupt();
+		} finally {
+			process.destroyForcibly();
+		}
+		LOGGER.log(FINE, "executeVersion", "executed", new Object[] { javaVm.getPath(), version });
+		return version;
+	}
+
+	/**
+	 * Read output of <code>java -version</code> to its end and find quoted
+	 * version in it.
+	 * <p/>
+	 *
+	 * @param process Executed Java VM.
+	 * @return Java VM version or <code>null</code> when output contains none.
+	 * @throws IOException when output can't be read.
+	 */
+	private static String readVersion(final Process process) throws IOException {
+		String version = null;
+		try (BufferedReader in = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+			String line;
+			while ((line = in.readLine()) != null) {
+				if (version == null) {
+					Matcher matcher = VERSION_OUTPUT.matcher(line);
+					if (matcher.find()) {
+						version = matcher.group(1);
+					}
+				}
+			}
+		}
+		return version;
+	}
+
+	/**
+	 * Persist cached versions when cache file is set.
+	 */
+	private static synchronized void save() {
+		File file = cacheFile;
+		if (file == null) {
+			return;
+		}
+		Properties properties = new Properties();
+		cache.forEach((path, entry) -> properties.setProperty(path, entry.toString()));
+		File parent = file.getParentFile();
+		if (parent != null) {
+			parent.mkdirs();
+		}
+		File tempFile = new File(file.getPath() + ".tmp");
+		try {
+			try (FileOutputStream fos = new FileOutputStream(tempFile)) {
+				properties.store(fos, "Java VM versions");
+			}
+			try {
+				Files.move(tempFile.toPath(), file.toPath(), REPLACE_EXISTING, ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException amnse) {
+				Files.move(tempFile.toPath(), file.toPath(), REPLACE_EXISTING);
+			}
+		} catch (IOException ioe) {
+			LOGGER.log(WARNING, "save", "failed", new Object[] { file.getPath(), ioe.getLocalizedMessage() });
+		}
+	}
+
+}
@@ -42,7 +42,6 @@ import static org.eclipse.payara.tools.PayaraToolsPlugin.logMessage;
 import static org.eclipse.payara.tools.facets.internal.GlassfishDeploymentDescriptorFactory.getWebDeploymentDescriptor;
 import static org.eclipse.payara.tools.sapphire.IPayaraServerModel.PROP_ATTACH_DEBUGGER_DEFAULT;
 import static org.eclipse.payara.tools.sapphire.IPayaraServerModel.PROP_ATTACH_DEBUGGER_EARLY;
-import static org.eclipse.payara.tools.sdk.server.parser.TreeParser.readXml;
 import static org.eclipse.payara.tools.utils.ModuleUtil.isEARModule;
 import static org.eclipse.payara.tools.utils.ModuleUtil.isEJBModule;
 import static org.eclipse.payara.tools.utils.ModuleUtil.isWebModule;
@@ -83,10 +82,8 @@ import org.eclipse.payara.tools.Messages;
 import org.eclipse.payara.tools.sapphire.IPayaraServerModel;
 import org.eclipse.payara.tools.sapphire.PayaraServerModelWorkingCopyAdapter;
 import org.eclipse.payara.tools.sdk.data.GlassFishAdminInterface;
+import org.eclipse.payara.tools.sdk.server.parser.DomainConfigReader;
 import org.eclipse.payara.tools.sdk.server.parser.HttpData;
-import org.eclipse.payara.tools.sdk.server.parser.HttpListenerReader;
-import org.eclipse.payara.tools.sdk.server.parser.NetworkListenerReader;
-import org.eclipse.payara.tools.sdk.server.parser.TargetConfigNameReader;
 import org.eclipse.payara.tools.server.deploying.PayaraServerBehaviour;
 import org.eclipse.payara.tools.utils.PayaraLocationUtils;
 import org.eclipse.sapphire.Version;
@@ -458,20 +455,13 @@ public final class PayaraServer extends ServerDelegate implements IURLProvider {
 		final Map<String, HttpData> httpMap = new LinkedHashMap<>();
 
 		if (domainXml.exists()) {
-			TargetConfigNameReader configNameReader = new TargetConfigNameReader();
-			readXml(domainXml, configNameReader);
-			String configName = configNameReader.getTargetConfigName();
-			if (configName == null) {
-				return false;
-			}
-
-			HttpListenerReader httpListenerReader = new HttpListenerReader(configName);
-			NetworkListenerReader networkListenerReader = new NetworkListenerReader(configName);
 			try {
-				readXml(domainXml, httpListenerReader, networkListenerReader);
+				DomainConfigReader domainConfig = DomainConfigReader.read(domainXml);
+				if (domainConfig.getTargetConfigName() == null) {
+					return false;
+				}
 
-				httpMap.putAll(httpListenerReader.getResult());
-				httpMap.putAll(networkListenerReader.getResult());
+				httpMap.putAll(domainConfig.getHttpListeners());
 
 				// !PW This is probably more convoluted than it had to be, but while
 				// http-listeners are usually named "http-listener-1", "http-listener-2", ...
@@ -31,6 +31,10 @@ import static org.eclipse.wst.server.core.IServer.PUBLISH_STATE_NONE;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.regex.Pattern;
 
 import org.eclipse.core.resources.IFile;
@@ -48,6 +52,7 @@ import org.eclipse.jst.server.generic.core.internal.CorePlugin;
 import org.eclipse.jst.server.generic.core.internal.publishers.ModulePackager;
 import org.eclipse.payara.tools.PayaraToolsPlugin;
 import org.eclipse.payara.tools.server.PayaraServer;
+import org.eclipse.payara.tools.server.archives.PublishDelta.Action;
 import org.eclipse.payara.tools.server.deploying.PayaraServerBehaviour;
 import org.eclipse.wst.server.core.IModule;
 import org.eclipse.wst.server.core.IServer;
@@ -71,7 +76,19 @@ public class AssembleModules {
 	protected IPath assembleRoot;
 	protected PublishHelper publishHelper;
 	protected PayaraServer server;
-	protected boolean childNeedsARedeployment;
+	protected Action childPublishAction = Action.COPY;
+	protected PublishCache publishCache;
+
+	/*
+	 * Packs one child module into its own archive.
+	 */
+	interface PackTask {
+		void pack() throws CoreException;
+	}
+
+	// Bounded pool packing independent child modules in parallel
+	private static final ForkJoinPool packPool = new ForkJoinPool(
+			Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors())));
 
 	public AssembleModules(IModule[] modulePath, IPath assembleRoot, PayaraServer server, PublishHelper helper) {
 		this.modulePath = modulePath;
@@ -83,6 +100,20 @@ public class AssembleModules {
 		logMessage("AssembleModules assembleRoot=" + assembleRoot);
 	}
 
+	/*
+	 * Sets the cache used to copy only changed resources. Without it every copy
+	 * goes through PublishHelper.publishSmart.
+	 */
+	public void setPublishCache(PublishCache publishCache) {
+		this.publishCache = publishCache;
+	}
+
+	private AssembleModules childAssembler(IModule[] childModulePath, IPath childAssembleRoot) {
+		AssembleModules assembler = new AssembleModules(childModulePath, childAssembleRoot, server, publishHelper);
+		assembler.setPublishCache(publishCache);
+		return assembler;
+	}
+
 	public IPath assembleWebModule(IProgressMonitor monitor) throws CoreException {
 		IPath parent = assembleRoot;
 
@@ -92,6 +123,7 @@ public class AssembleModules {
 
 		IWebModule webModule = (IWebModule) module.loadAdapter(IWebModule.class, monitor);
 		IModule[] childModules = webModule.getModules();
+		List<PackTask> packTasks = new ArrayList<>(childModules.length);
 		for (IModule childModule : childModules) {
 			String uri = webModule.getURI(childModule);
 			if (uri == null) { // The bad memories of WTP 1.0
@@ -106,27 +138,74 @@ public class AssembleModules {
 			} else { // Project module
 				String version = PayaraServerBehaviour.getVersion(server);
 				if (version.indexOf(" 3.1") == -1) {
-					packModule(childModule, uri, parent);
+					addPackTask(packTasks, childModule, uri, parent);
 				} else {
 
 					if (shouldRepack(childModule)) {
-
-						IModule[] childModulePath = new IModule[modulePath.length + 1];
-						arraycopy(modulePath, 0, childModulePath, 0, modulePath.length);
-						childModulePath[childModulePath.length - 1] = childModule;
-
-						AssembleModules assembler = new AssembleModules(childModulePath, assembleRoot.append(uri),
-								server, publishHelper);
-						childNeedsARedeployment = (childNeedsARedeployment || assembler.needsARedeployment());
+						AssembleModules assembler = childAssembler(childModulePath(childModule),
+								assembleRoot.append(uri));
+						childPublishAction = childPublishAction.max(assembler.getPublishAction());
 						assembler.copyModule(childModule, monitor);
 					}
 				}
 			}
 		}
 
+		packAll(packTasks);
+
 		return parent;
 	}
 
+	/*
+	 * Adds a task packing the given project child module, and folds the action its
+	 * changes need into the child publish action. Classifying happens here on the
+	 * calling thread, the pack pool only writes archives.
+	 */
+	void addPackTask(List<PackTask> packTasks, IModule childModule, String uri, IPath parent) {
+		childPublishAction = childPublishAction.max(getDeltaAction(childModulePath(childModule)));
+		packTasks.add(() -> packModule(childModule, uri, parent));
+	}
+
+	/*
+	 * Runs the given pack tasks on the bounded pack pool. Every task writes its own
+	 * archive, so the assembled output does not depend on scheduling. All tasks
+	 * are waited for, then the first failure in task order is thrown.
+	 */
+	private static void packAll(List<PackTask> packTasks) throws CoreException {
+		if (packTasks.size() == 1) {
+			packTasks.get(0).pack();
+			return;
+		}
+
+		List<ForkJoinTask<Void>> results = new ArrayList<>(packTasks.size());
+		for (PackTask packTask : packTasks) {
+			results.add(packPool.submit(() -> {
+				packTask.pack();
+				return null;
+			}));
+		}
+
+		CoreException failure = null;
+		for (ForkJoinTask<Void> result : results) {
+			try {
+				result.get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new CoreException(new Status(ERROR, SYMBOLIC_NAME, 0, "interrupted assembling module", e));
+			} catch (ExecutionException e) {
+				if (failure == null) {
+					failure = e.getCause() instanceof CoreException ? (CoreException) e.getCause()
+							: new CoreException(new Status(ERROR, SYMBOLIC_NAME, 0, "unable to assemble module",
+									e.getCause()));
+				}
+			}
+		}
+
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
 	public static boolean isModuleType(IModule module, String moduleTypeId) {
 		return module.getModuleType() != null && moduleTypeId.equals(module.getModuleType().getId());
 	}
@@ -202,7 +281,7 @@ public class AssembleModules {
 			}
 
 		}
-		IStatus[] status = publishHelper.publishSmart(pm.members(), assembleRoot, jarPaths, monitor);
+		IStatus[] status = publishSmart(module, pm.members(), jarPaths, monitor);
 		if (status != null && status.length > 0) {
 			// no need to emit an error like CoreException(status[0]); just log in the entry
 			// see https://glassfishplugins.dev.java.net/issues/show_bug.cgi?id=268
@@ -247,7 +326,7 @@ public class AssembleModules {
 		}
 		IPath[] pathArr = new IPath[ignorePaths.size()];
 		pathArr = ignorePaths.toArray(pathArr);
-		IStatus[] status = publishHelper.publishSmart(pm.members(), assembleRoot, pathArr, monitor);
+		IStatus[] status = publishSmart(module, pm.members(), pathArr, monitor);
 		if (status != null && status.length > 0) {
 			// no need to emit an error like CoreException(status[0]); just log in the entry
 			// see https://glassfishplugins.dev.java.net/issues/show_bug.cgi?id=268
@@ -259,6 +338,15 @@ public class AssembleModules {
 		return assembleRoot;
 	}
 
+	private IStatus[] publishSmart(IModule module, IModuleResource[] resources, IPath[] ignorePaths,
+			IProgressMonitor monitor) {
+		if (publishCache == null) {
+			return publishHelper.publishSmart(resources, assembleRoot, ignorePaths, monitor);
+		}
+
+		return publishCache.publish(module, resources, assembleRoot, ignorePaths, publishHelper, monitor);
+	}
+
 	/*
 	 * not used for now... Would be ejb module when v3 has them
 	 *
@@ -280,6 +368,7 @@ public class AssembleModules {
 				monitor);
 
 		IModule[] childModules = earModule.getModules();
+		List<PackTask> packTasks = new ArrayList<>(childModules.length);
 		for (IModule module : childModules) {
 			String uri = earModule.getURI(module);
 			if (uri == null) {
@@ -294,10 +383,18 @@ public class AssembleModules {
 				continue;// done! no need to go further
 			}
 			if (shouldRepack(module)) {
-				packModuleEARModule(module, uri, parent);
+				if (module.getModuleType().getId().equals("jst.web")) {//$NON-NLS-1$
+					// Assembles the web application into the shared assembly root first
+					childPublishAction = childPublishAction.max(getDeltaAction(childModulePath(module)));
+					packModuleEARModule(module, uri, parent);
+				} else {
+					addPackTask(packTasks, module, uri, parent);
+				}
 			}
 		}
 
+		packAll(packTasks);
+
 		return parent;
 
 	}
@@ -309,9 +406,7 @@ public class AssembleModules {
 	 * @return module changed
 	 */
 	private boolean shouldRepack(IModule lmodule) {
-		IModule[] childModulePath = new IModule[modulePath.length + 1];
-		arraycopy(modulePath, 0, childModulePath, 0, modulePath.length);
-		childModulePath[childModulePath.length - 1] = lmodule;
+		IModule[] childModulePath = childModulePath(lmodule);
 
 		boolean repack = PUBLISH_STATE_NONE != server.getServer().getModulePublishState(childModulePath);
 		repack |= PUBLISH_STATE_NONE != server.getServer().getModulePublishState(modulePath);
@@ -319,45 +414,40 @@ public class AssembleModules {
 		return repack;
 	}
 
-	/*
-	 * Returns true is a deploy command has to be run. for example a simple JSP
-	 * change does not need a redeployment as the file is already been copied by the
-	 * assembly in the correct directory
-	 */
-	public boolean needsARedeployment() {
-		Server _server = (Server) server.getServer();
-
-		return childNeedsARedeployment || criticalResourceChangeThatNeedsARedeploy(
-				// The path that's going to be published
-				_server.getPublishedResourceDelta(modulePath),
+	private IModule[] childModulePath(IModule childModule) {
+		IModule[] childModulePath = new IModule[modulePath.length + 1];
+		arraycopy(modulePath, 0, childModulePath, 0, modulePath.length);
+		childModulePath[childModulePath.length - 1] = childModule;
 
-				// The pattern that denotes whether a restart is needed for that path
-				Pattern.compile(_server.getAttribute(PROP_RESTART_PATTERN.name(), PROP_RESTART_PATTERN_DEFAULT)));
+		return childModulePath;
 	}
 
 	/*
-	 * return true is a module resource change requires a redeploy command for
-	 * example, web.xml or a .class file change needs a redepploy. a jsp or html
-	 * change just needs a file copy not a redeploy command.
+	 * Returns the cheapest action that makes the server pick up the published
+	 * changes of this module and its assembled children.
 	 */
-	private boolean criticalResourceChangeThatNeedsARedeploy(IModuleResourceDelta[] deltas, Pattern restartPattern) {
-		if (deltas == null) {
-			return false;
-		}
-
-		for (IModuleResourceDelta delta : deltas) {
-			if (restartPattern.matcher(delta.getModuleResource().getName()).find()) {
-				return true;
-			}
+	public Action getPublishAction() {
+		return childPublishAction.max(getDeltaAction(modulePath));
+	}
 
-			logMessage("AssembleModules no pattern matched.");
+	/*
+	 * Classifies the published resource delta of the given module path.
+	 */
+	private Action getDeltaAction(IModule[] deltaModulePath) {
+		return new PublishDelta(getRestartPattern()).classify(getPublishedResourceDelta(deltaModulePath))
+				.getAction();
+	}
 
-			if (criticalResourceChangeThatNeedsARedeploy(delta.getAffectedChildren(), restartPattern)) {
-				return true;
-			}
-		}
+	/*
+	 * Returns the pattern that denotes whether a restart is needed for a path.
+	 */
+	protected Pattern getRestartPattern() {
+		return Pattern.compile(((Server) server.getServer()).getAttribute(PROP_RESTART_PATTERN.name(),
+				PROP_RESTART_PATTERN_DEFAULT));
+	}
 
-		return false;
+	protected IModuleResourceDelta[] getPublishedResourceDelta(IModule[] deltaModulePath) {
+		return ((Server) server.getServer()).getPublishedResourceDelta(deltaModulePath);
 	}
 
 	protected void packModuleEARModule(IModule module, String deploymentUnitName, IPath destination)
@@ -369,7 +459,7 @@ public class AssembleModules {
 		logMessage("AssembleModules destination=" + destination);
 		if (module.getModuleType().getId().equals("jst.web")) {//$NON-NLS-1$
 
-			AssembleModules assembler = new AssembleModules(modulePath, assembleRoot, server, publishHelper);
+			AssembleModules assembler = childAssembler(modulePath, assembleRoot);
 			IPath webAppPath = assembler.assembleWebModule(new NullProgressMonitor());
 			String realDestination = destination.append(deploymentUnitName).toString();
 			logMessage("AssembleModules realDestination=" + realDestination);
@@ -436,19 +526,15 @@ public class AssembleModules {
 			}
 
 			if (shouldRepack(childModule)) {
-				IModule[] childModulePath = new IModule[modulePath.length + 1];
-				arraycopy(modulePath, 0, childModulePath, 0, modulePath.length);
-				childModulePath[childModulePath.length - 1] = childModule;
+				IModule[] childModulePath = childModulePath(childModule);
 
 				if (childModule.getModuleType().getId().equals("jst.web")) {//$NON-NLS-1$
-					AssembleModules assembler = new AssembleModules(childModulePath, assembleRoot.append(uri), server,
-							publishHelper);
-					childNeedsARedeployment = (childNeedsARedeployment || assembler.needsARedeployment());
+					AssembleModules assembler = childAssembler(childModulePath, assembleRoot.append(uri));
+					childPublishAction = childPublishAction.max(assembler.getPublishAction());
 					assembler.assembleWebModule(new NullProgressMonitor());
 				} else {
-					AssembleModules assembler = new AssembleModules(childModulePath, assembleRoot.append(uri), server,
-							publishHelper);
-					childNeedsARedeployment = (childNeedsARedeployment || assembler.needsARedeployment());
+					AssembleModules assembler = childAssembler(childModulePath, assembleRoot.append(uri));
+					childPublishAction = childPublishAction.max(assembler.getPublishAction());
 					assembler.copyModule(childModule, monitor);
 				}
 
@@ -0,0 +1,405 @@
+/******************************************************************************
+ * Copyright (c) 2020 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.eclipse.payara.tools.server.archives;
+
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static org.eclipse.core.runtime.IStatus.ERROR;
+import static org.eclipse.payara.tools.PayaraToolsPlugin.SYMBOLIC_NAME;
+import static org.eclipse.payara.tools.PayaraToolsPlugin.logError;
+import static org.eclipse.payara.tools.PayaraToolsPlugin.logMessage;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.wst.server.core.IModule;
+import org.eclipse.wst.server.core.model.IModuleFile;
+import org.eclipse.wst.server.core.model.IModuleFolder;
+import org.eclipse.wst.server.core.model.IModuleResource;
+import org.eclipse.wst.server.core.util.PublishHelper;
+
+/**
+ * Persistent content hash based publish cache.
+ *
+ * <p>
+ * For every module published to an assembly directory a manifest with size,
+ * modification time and content hash of each published file is kept in the
+ * server temp directory, next to <code>publish.txt</code>. Files whose size and
+ * modification time did not change are skipped without being read, files that
+ * were only touched are skipped after the hash is compared, and only really
+ * changed files are copied. Files and folders that disappeared from the module
+ * are removed from the assembly directory, new folders are created even when
+ * empty. Paths owned by other publish steps are neither copied nor removed.
+ *
+ * <p>
+ * When there is no manifest yet, the assembly directory is gone, or some module
+ * file has no backing file that could be compared, the module is published by
+ * {@link PublishHelper#publishSmart} and the manifest is recorded afterwards.
+ */
+public class PublishCache {
+
+	private static final String DIGEST_ALGORITHM = "SHA-1";
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	/* Manifest value of a folder, folder keys end with '/' */
+	private static final String FOLDER = "folder";
+
+	private final File directory;
+
+	private final AtomicLong filesScanned = new AtomicLong();
+	private final AtomicLong filesCopied = new AtomicLong();
+	private final AtomicLong bytesCopied = new AtomicLong();
+	private final AtomicLong fullPublishes = new AtomicLong();
+
+	/**
+	 * Creates a publish cache keeping its manifests in the given directory.
+	 */
+	public PublishCache(File directory) {
+		this.directory = directory;
+	}
+
+	/**
+	 * Publishes the resources of the given module to the given assembly root,
+	 * copying only resources that changed since the last publish.
+	 *
+	 * @param ignorePaths root relative paths owned by other publish steps, these
+	 *                    are never deleted
+	 * @return problems found while copying, never <code>null</code>
+	 */
+	public IStatus[] publish(IModule module, IModuleResource[] resources, IPath root, IPath[] ignorePaths,
+			PublishHelper helper, IProgressMonitor monitor) {
+		File manifestFile = manifestFile(module, root);
+		Properties manifest = load(manifestFile);
+
+		Map<String, File> sources = new LinkedHashMap<>();
+		Set<String> folders = new LinkedHashSet<>();
+		boolean backed = collect(resources, ignorePaths, sources, folders);
+
+		List<IStatus> status = new ArrayList<>();
+
+		if (manifest.isEmpty() || !root.toFile().isDirectory() || !backed) {
+			// Files copied by the helper are not known, only full publishes are counted
+			fullPublishes.incrementAndGet();
+			IStatus[] publishStatus = helper.publishSmart(resources, root, ignorePaths, monitor);
+			if (publishStatus != null) {
+				for (IStatus publishStat : publishStatus) {
+					status.add(publishStat);
+				}
+			}
+
+			manifest.clear();
+			for (Map.Entry<String, File> source : sources.entrySet()) {
+				filesScanned.incrementAndGet();
+				try {
+					Entry entry = Entry.of(source.getValue(), hash(source.getValue()));
+					manifest.setProperty(source.getKey(), entry.toString());
+				} catch (IOException e) {
+					status.add(new Status(ERROR, SYMBOLIC_NAME, 0, "unable to hash " + source.getValue(), e));
+				}
+			}
+			for (String folder : folders) {
+				manifest.setProperty(folder, FOLDER);
+			}
+		} else {
+			Properties previous = (Properties) manifest.clone();
+			manifest.clear();
+
+			for (Map.Entry<String, File> source : sources.entrySet()) {
+				if (monitor != null && monitor.isCanceled()) {
+					break;
+				}
+
+				filesScanned.incrementAndGet();
+				String path = source.getKey();
+				File sourceFile = source.getValue();
+				File targetFile = root.append(path).toFile();
+				Entry cached = Entry.parse(previous.getProperty(path));
+
+				try {
+					Entry current = Entry.of(sourceFile, null);
+					boolean upToDate = cached != null && targetFile.isFile() && targetFile.length() == current.size
+							&& cached.size == current.size;
+
+					if (upToDate && cached.modified == current.modified) {
+						manifest.setProperty(path, cached.toString());
+						continue;
+					}
+
+					current = Entry.of(sourceFile, hash(sourceFile));
+					if (!upToDate || !current.hash.equals(cached.hash)) {
+						copy(sourceFile, targetFile);
+						filesCopied.incrementAndGet();
+						bytesCopied.addAndGet(current.size);
+					}
+					manifest.setProperty(path, current.toString());
+				} catch (IOException e) {
+					status.add(new Status(ERROR, SYMBOLIC_NAME, 0, "unable to publish " + sourceFile, e));
+				}
+			}
+
+			for (String path : previous.stringPropertyNames()) {
+				if (!sources.containsKey(path) && !folders.contains(path) && !isIgnored(path, ignorePaths)) {
+					delete(root, path);
+				}
+			}
+
+			// After deleting, which removes folders left empty
+			for (String folder : folders) {
+				File targetFolder = root.append(folder).toFile();
+				if (!targetFolder.isDirectory() && !targetFolder.mkdirs()) {
+					status.add(new Status(ERROR, SYMBOLIC_NAME, 0, "unable to create " + targetFolder, null));
+				}
+				manifest.setProperty(folder, FOLDER);
+			}
+		}
+
+		save(manifestFile, manifest);
+
+		return status.toArray(new IStatus[status.size()]);
+	}
+
+	/**
+	 * Forgets all manifests of the given module, so its next publish starts from
+	 * scratch.
+	 */
+	public void clear(IModule module) {
+		File[] manifests = directory.listFiles((dir, name) -> name.startsWith(manifestPrefix(module)));
+		if (manifests != null) {
+			for (File manifest : manifests) {
+				manifest.delete();
+			}
+		}
+	}
+
+	public long getFilesScanned() {
+		return filesScanned.get();
+	}
+
+	public long getFilesCopied() {
+		return filesCopied.get();
+	}
+
+	public long getBytesCopied() {
+		return bytesCopied.get();
+	}
+
+	/**
+	 * Returns the number of module publishes delegated to
+	 * {@link PublishHelper#publishSmart}, their copied files are not counted.
+	 */
+	public long getFullPublishes() {
+		return fullPublishes.get();
+	}
+
+	@Override
+	public String toString() {
+		return "scanned=" + getFilesScanned() + ", copied=" + getFilesCopied() + ", bytes=" + getBytesCopied()
+				+ ", full=" + getFullPublishes();
+	}
+
+	/**
+	 * Collects the backing files of all module files, keyed by module relative
+	 * path, and the module relative paths of all folders, ending with '/'.
+	 * Resources under ignored paths are left out.
+	 *
+	 * @return <code>false</code> when some module file has no backing file
+	 */
+	private static boolean collect(IModuleResource[] resources, IPath[] ignorePaths, Map<String, File> sources,
+			Set<String> folders) {
+		if (resources == null) {
+			return true;
+		}
+
+		boolean backed = true;
+		for (IModuleResource resource : resources) {
+			String path = resource.getModuleRelativePath().append(resource.getName()).toPortableString();
+			if (isIgnored(path, ignorePaths)) {
+				continue;
+			}
+
+			if (resource instanceof IModuleFolder) {
+				folders.add(path + "/");
+				backed &= collect(((IModuleFolder) resource).members(), ignorePaths, sources, folders);
+			} else if (resource instanceof IModuleFile) {
+				File file = null;
+				IFile iFile = resource.getAdapter(IFile.class);
+				if (iFile != null && iFile.getLocation() != null) {
+					file = iFile.getLocation().toFile();
+				} else {
+					file = resource.getAdapter(File.class);
+				}
+
+				if (file != null) {
+					sources.put(path, file);
+				} else {
+					logMessage("PublishCache no backing file for " + resource + ", publishing whole module");
+					backed = false;
+				}
+			}
+		}
+
+		return backed;
+	}
+
+	private static boolean isIgnored(String path, IPath[] ignorePaths) {
+		if (ignorePaths != null) {
+			for (IPath ignorePath : ignorePaths) {
+				if (ignorePath.isPrefixOf(new Path(path))) {
+					return true;
+				}
+			}
+		}
+
+		return false;
+	}
+
+	private static void copy(File source, File target) throws IOException {
+		Files.createDirectories(target.getParentFile().toPath());
+		Files.copy(source.toPath(), target.toPath(), REPLACE_EXISTING);
+		target.setLastModified(source.lastModified());
+	}
+
+	/**
+	 * Deletes a file that is no longer part of the module, together with the
+	 * folders it leaves empty.
+	 */
+	private static void delete(IPath root, String path) {
+		File file = root.append(path).toFile();
+		File rootFile = root.toFile();
+
+		while (file != null && !file.equals(rootFile) && file.delete()) {
+			file = file.getParentFile();
+		}
+	}
+
+	private static String hash(File file) throws IOException {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IOException(e);
+		}
+
+		byte[] buffer = new byte[BUFFER_SIZE];
+		try (InputStream in = new FileInputStream(file)) {
+			for (int length; (length = in.read(buffer)) > 0;) {
+				digest.update(buffer, 0, length);
+			}
+		}
+
+		StringBuilder hex = new StringBuilder();
+		for (byte b : digest.digest()) {
+			hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+		}
+
+		return hex.toString();
+	}
+
+	private File manifestFile(IModule module, IPath root) {
+		return new File(directory,
+				manifestPrefix(module) + Integer.toHexString(root.toPortableString().hashCode()) + ".properties");
+	}
+
+	private static String manifestPrefix(IModule module) {
+		return module.getId().replaceAll("[^A-Za-z0-9._-]", "_") + "-";
+	}
+
+	private static Properties load(File manifestFile) {
+		Properties manifest = new Properties();
+
+		if (manifestFile.isFile()) {
+			try (FileInputStream fis = new FileInputStream(manifestFile)) {
+				manifest.load(fis);
+			} catch (IOException e) {
+				logMessage("PublishCache ignoring unreadable manifest " + manifestFile);
+				manifest.clear();
+			}
+		}
+
+		return manifest;
+	}
+
+	private static void save(File manifestFile, Properties manifest) {
+		manifestFile.getParentFile().mkdirs();
+
+		try (FileOutputStream fos = new FileOutputStream(manifestFile)) {
+			manifest.store(fos, "Payara publish cache");
+		} catch (IOException e) {
+			logError("Error saving publish cache " + manifestFile, e);
+		}
+	}
+
+	/**
+	 * Manifest entry of a single published file, stored as
+	 * <code>size,modified,hash</code>.
+	 */
+	private static class Entry {
+
+		private final long size;
+		private final long modified;
+		private final String hash;
+
+		private Entry(long size, long modified, String hash) {
+			this.size = size;
+			this.modified = modified;
+			this.hash = hash;
+		}
+
+		static Entry of(File file, String hash) throws IOException {
+			if (!file.isFile()) {
+				throw new IOException("missing source file " + file);
+			}
+
+			return new Entry(file.length(), file.lastModified(), hash);
+		}
+
+		static Entry parse(String value) {
+			if (value == null) {
+				return null;
+			}
+
+			String[] parts = value.split(",", 3);
+			if (parts.length != 3) {
+				return null;
+			}
+
+			try {
+				return new Entry(Long.parseLong(parts[0]), Long.parseLong(parts[1]), parts[2]);
+			} catch (NumberFormatException e) {
+				return null;
+			}
+		}
+
+		@Override
+		public String toString() {
+			return size + "," + modified + "," + hash;
+		}
+	}
+
+}
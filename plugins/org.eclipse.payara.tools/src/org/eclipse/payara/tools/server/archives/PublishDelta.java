@@ -0,0 +1,129 @@
+/******************************************************************************
+ * Copyright (c) 2020 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.eclipse.payara.tools.server.archives;
+
+import static org.eclipse.payara.tools.PayaraToolsPlugin.logMessage;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.eclipse.wst.server.core.model.IModuleFile;
+import org.eclipse.wst.server.core.model.IModuleResourceDelta;
+
+/**
+ * Classifies resource deltas of an exploded module into the cheapest action
+ * that makes the server pick the change up.
+ *
+ * <ul>
+ * <li>Static resources (JSP, HTML, images, ...) are only copied, the server
+ * serves them from the deployed directory.</li>
+ * <li>Class and library changes need the application to be reloaded.</li>
+ * <li>Deployment descriptor changes, and resources matching the server's
+ * restart pattern, need a redeploy.</li>
+ * </ul>
+ */
+public class PublishDelta {
+
+	/**
+	 * Action needed to publish a change, in increasing cost order.
+	 */
+	public enum Action {
+		COPY, RELOAD, REDEPLOY;
+
+		public Action max(Action other) {
+			return other != null && other.ordinal() > ordinal() ? other : this;
+		}
+	}
+
+	private static final Set<String> DESCRIPTORS = new HashSet<>(Arrays.asList("web.xml", "web-fragment.xml",
+			"application.xml", "ejb-jar.xml", "ra.xml", "application-client.xml", "beans.xml", "persistence.xml",
+			"faces-config.xml", "webservices.xml", "MANIFEST.MF"));
+
+	private static final String[] DESCRIPTOR_PREFIXES = { "glassfish-", "payara-", "sun-" };
+
+	private final Pattern restartPattern;
+	private Action action = Action.COPY;
+
+	public PublishDelta(Pattern restartPattern) {
+		this.restartPattern = restartPattern;
+	}
+
+	/**
+	 * Classifies all leaf resources of the given deltas, keeping the most
+	 * expensive action.
+	 */
+	public PublishDelta classify(IModuleResourceDelta[] deltas) {
+		if (deltas == null) {
+			return this;
+		}
+
+		for (IModuleResourceDelta delta : deltas) {
+			IModuleResourceDelta[] children = delta.getAffectedChildren();
+			if (delta.getModuleResource() instanceof IModuleFile || children == null || children.length == 0) {
+				String path = delta.getModuleRelativePath().toPortableString();
+				Action resourceAction = classify(path, delta.getModuleResource().getName());
+
+				logMessage("PublishDelta " + path + " -> " + resourceAction);
+
+				action = action.max(resourceAction);
+			} else {
+				classify(children);
+			}
+		}
+
+		return this;
+	}
+
+	/**
+	 * Classifies a single resource by its module relative path and name.
+	 */
+	Action classify(String path, String name) {
+		if (restartPattern != null && restartPattern.matcher(name).find()) {
+			return Action.REDEPLOY;
+		}
+
+		if (isDescriptor(path, name)) {
+			return Action.REDEPLOY;
+		}
+
+		if (name.endsWith(".class") || name.endsWith(".jar")) {
+			return Action.RELOAD;
+		}
+
+		return Action.COPY;
+	}
+
+	private static boolean isDescriptor(String path, String name) {
+		if (!path.contains("WEB-INF/") && !path.contains("META-INF/")) {
+			return false;
+		}
+
+		if (DESCRIPTORS.contains(name)) {
+			return true;
+		}
+
+		if (name.endsWith(".xml")) {
+			for (String prefix : DESCRIPTOR_PREFIXES) {
+				if (name.startsWith(prefix)) {
+					return true;
+				}
+			}
+		}
+
+		return false;
+	}
+
+	public Action getAction() {
+		return action;
+	}
+
+}
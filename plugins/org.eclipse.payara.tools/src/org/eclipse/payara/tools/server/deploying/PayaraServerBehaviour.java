@@ -43,9 +43,9 @@ import static org.eclipse.payara.tools.log.PayaraConsoleManager.getStandardConso
 import static org.eclipse.payara.tools.sdk.TaskState.COMPLETED;
 import static org.eclipse.payara.tools.sdk.admin.CommandStopDAS.stopDAS;
 import static org.eclipse.payara.tools.sdk.admin.ServerAdmin.exec;
+import static org.eclipse.payara.tools.sdk.utils.ServerUtils.isAdminPortListening;
 import static org.eclipse.payara.tools.server.PayaraServer.DEFAULT_DEBUG_PORT;
 import static org.eclipse.payara.tools.server.ServerStatus.RUNNING_DOMAIN_MATCHING;
-import static org.eclipse.payara.tools.server.ServerStatus.STOPPED_NOT_LISTENING;
 import static org.eclipse.payara.tools.server.archives.AssembleModules.isModuleType;
 import static org.eclipse.payara.tools.server.archives.ExportJavaEEArchive.export;
 import static org.eclipse.payara.tools.utils.ResourceUtils.RESOURCE_FILE_NAME;
@@ -74,6 +74,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -96,6 +97,7 @@ import org.eclipse.debug.core.IDebugEventSetListener;
 import org.eclipse.debug.core.ILaunch;
 import org.eclipse.debug.core.ILaunchConfiguration;
 import org.eclipse.debug.core.ILaunchConfigurationWorkingCopy;
+import org.eclipse.debug.core.model.IProcess;
 import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
 import org.eclipse.jdt.internal.launching.JavaRemoteApplicationLaunchConfigurationDelegate;
 import org.eclipse.jst.server.core.IEnterpriseApplication;
@@ -106,6 +108,8 @@ import org.eclipse.payara.tools.internal.ServerStatusMonitor;
 import org.eclipse.payara.tools.sdk.PayaraIdeException;
 import org.eclipse.payara.tools.sdk.admin.CommandAddResources;
 import org.eclipse.payara.tools.sdk.admin.CommandDeploy;
+import org.eclipse.payara.tools.sdk.admin.CommandDisable;
+import org.eclipse.payara.tools.sdk.admin.CommandEnable;
 import org.eclipse.payara.tools.sdk.admin.CommandGetProperty;
 import org.eclipse.payara.tools.sdk.admin.CommandRedeploy;
 import org.eclipse.payara.tools.sdk.admin.CommandTarget;
@@ -120,6 +124,8 @@ import org.eclipse.payara.tools.server.PayaraRuntime;
 import org.eclipse.payara.tools.server.PayaraServer;
 import org.eclipse.payara.tools.server.ServerStatus;
 import org.eclipse.payara.tools.server.archives.AssembleModules;
+import org.eclipse.payara.tools.server.archives.PublishCache;
+import org.eclipse.payara.tools.server.archives.PublishDelta.Action;
 import org.eclipse.payara.tools.server.starting.PayaraServerLaunchDelegate;
 import org.eclipse.payara.tools.server.starting.PayaraStartJob;
 import org.eclipse.payara.tools.server.starting.StartupArgsImpl;
@@ -153,8 +159,19 @@ public final class PayaraServerBehaviour extends ServerBehaviourDelegate impleme
 
 	private ServerStatusMonitor statusMonitor;
 
+	// Server version, cached until the next server state transition
+	private final Object versionLock = new Object();
+	private volatile String version;
+	private int versionGeneration;
+
 	private static final ExecutorService asyncJobsService = Executors.newCachedThreadPool();
 
+	// Admin port probes while waiting for the server to stop back off from the
+	// minimal to the maximal delay
+	private static final long STOP_PROBE_MIN_DELAY = 50;
+	private static final long STOP_PROBE_MAX_DELAY = 1000;
+	private static final int STOP_PROBE_TIMEOUT = 500;
+
 	private static JavaRemoteApplicationLaunchConfigurationDelegate REMOTE_JAVA_APP_LAUNCH_DELEGATE = new JavaRemoteApplicationLaunchConfigurationDelegate();
 
 	public PayaraServerBehaviour() {
@@ -325,7 +342,66 @@ public final class PayaraServerBehaviour extends ServerBehaviourDelegate impleme
 		return statusMonitor.getServerStatus(forceUpdate);
 	}
 
+	/**
+	 * Returns the monitor polling the status of this server, it also provides the
+	 * poll count and latencies.
+	 */
+	public ServerStatusMonitor getServerStatusMonitor() {
+		return statusMonitor;
+	}
+
+	/**
+	 * Returns the version reported by the running server.
+	 *
+	 * <p>
+	 * The version is asked once and cached by the server behaviour until the next
+	 * server state transition (start, stop, restart), so repeated version
+	 * dependent decisions do not send a remote command each.
+	 */
 	public static String getVersion(PayaraServer server) throws PayaraIdeException {
+		PayaraServerBehaviour serverBehaviour = server.getServerBehaviourAdapter();
+		if (serverBehaviour == null) {
+			return fetchVersion(server);
+		}
+
+		return serverBehaviour.getCachedVersion(server);
+	}
+
+	private String getCachedVersion(PayaraServer server) throws PayaraIdeException {
+		String cachedVersion = version;
+		if (cachedVersion != null) {
+			return cachedVersion;
+		}
+
+		int generation;
+		synchronized (versionLock) {
+			generation = versionGeneration;
+		}
+
+		String fetchedVersion = fetchVersion(server);
+
+		synchronized (versionLock) {
+			// Do not keep a version fetched across a state transition
+			if (fetchedVersion != null && generation == versionGeneration) {
+				version = fetchedVersion;
+			}
+		}
+
+		return fetchedVersion;
+	}
+
+	/**
+	 * Forgets the cached server version, the next version lookup asks the server
+	 * again.
+	 */
+	public void invalidateVersion() {
+		synchronized (versionLock) {
+			versionGeneration++;
+			version = null;
+		}
+	}
+
+	private static String fetchVersion(PayaraServer server) throws PayaraIdeException {
 		Future<ResultString> future = ServerAdmin.exec(server, new CommandVersion());
 
 		try {
@@ -374,6 +450,9 @@ public final class PayaraServerBehaviour extends ServerBehaviourDelegate impleme
 	 * @param state
 	 */
 	public synchronized void setPayaraServerState(int state) {
+		if (state != getServer().getServerState()) {
+			invalidateVersion();
+		}
 		setServerState(state);
 	}
 
@@ -581,6 +660,10 @@ public final class PayaraServerBehaviour extends ServerBehaviourDelegate impleme
 		return getTempDirectory().append("publish.txt").toFile();
 	}
 
+	private PublishCache getPublishCache() {
+		return new PublishCache(getTempDirectory().append("publish-cache").toFile());
+	}
+
 	private void publishDeployedDirectory(int kind, int deltaKind, Properties publishProperties, IModule module[],
 			IProgressMonitor monitor) throws CoreException {
 
@@ -599,6 +682,8 @@ public final class PayaraServerBehaviour extends ServerBehaviourDelegate impleme
 				// try delete the app directory from server directly next
 			}
 
+			getPublishCache().clear(module[0]);
+
 			if (publishPath != null) {
 				try {
 					File pub = new File(publishPath);
@@ -628,7 +713,14 @@ public final class PayaraServerBehaviour extends ServerBehaviourDelegate impleme
 			PublishHelper helper = new PublishHelper(
 					new Path(getPayaraServerDelegate().getDomainPath() + "/eclipseAppsTmp").toFile());
 
+			// A clean publish copies everything again
+			PublishCache publishCache = getPublishCache();
+			if (kind == PUBLISH_CLEAN) {
+				publishCache.clear(module[0]);
+			}
+
 			AssembleModules assembler = new AssembleModules(module, path, getPayaraServerDelegate(), helper);
+			assembler.setPublishCache(publishCache);
 			logMessage("Deploy direcotry " + path.toFile().getAbsolutePath());
 
 			String contextRoot = null;
@@ -648,11 +740,16 @@ public final class PayaraServerBehaviour extends ServerBehaviourDelegate impleme
 				assembler.assembleNonWebOrNonEARModule(monitor);
 			}
 
-			if (kind == PUBLISH_INCREMENTAL || kind == PUBLISH_AUTO) {
-				needARedeploy = assembler.needsARedeployment();
+			logMessage("Publish statistics for " + module[0].getName() + ": " + publishCache);
+
+			Action publishAction;
+			if ((kind == PUBLISH_INCREMENTAL || kind == PUBLISH_AUTO) && deltaKind != ADDED) {
+				publishAction = assembler.getPublishAction();
 			} else {
-				needARedeploy = true;
+				publishAction = Action.REDEPLOY;
 			}
+			needARedeploy = publishAction == Action.REDEPLOY;
+			logMessage("Publish decision for " + module[0].getName() + ": " + publishAction);
 
 			// deploy the sun resource file if there is one in path:
 			registerSunResource(module, publishProperties, path);
@@ -685,12 +782,41 @@ public final class PayaraServerBehaviour extends ServerBehaviourDelegate impleme
 					logError("deploy is failing=", ex);
 					throw new CoreException(new Status(ERROR, SYMBOLIC_NAME, 0, "cannot Deploy " + name, ex));
 				}
+			} else if (publishAction == Action.RELOAD) {
+				reload(module);
 			} else {
 				logMessage("optimal: NO NEED TO DO A REDEPLOYMENT, !!!");
 			}
 		}
 	}
 
+	/**
+	 * Reloads an already deployed application by disabling and enabling it, which
+	 * picks up changed classes without going through a full redeploy.
+	 */
+	private void reload(IModule module[]) throws CoreException {
+		String name = simplifyModuleID(module[0].getName());
+
+		try {
+			ServerAdmin.executeOn(getPayaraServerDelegate()).command(new CommandDisable(name, null))
+					.onNotCompleted(result -> {
+						throw new IllegalStateException("disable is failing=" + result.getValue());
+					}).get();
+
+			ServerAdmin.executeOn(getPayaraServerDelegate()).command(new CommandEnable(name, null))
+					.onNotCompleted(result -> {
+						throw new IllegalStateException("enable is failing=" + result.getValue());
+					}).get();
+
+			setModuleState(module, STATE_STARTED);
+
+		} catch (Exception ex) {
+			setModuleState(module, STATE_STOPPED);
+			logError("reload is failing=", ex);
+			throw new CoreException(new Status(ERROR, SYMBOLIC_NAME, 0, "cannot Reload " + name, ex));
+		}
+	}
+
 	private void publishJarFile(int kind, int deltaKind, Properties p, IModule[] module, IProgressMonitor monitor)
 			throws CoreException {
 		// first try to see if we need to undeploy:
@@ -936,15 +1062,69 @@ public final class PayaraServerBehaviour extends ServerBehaviourDelegate impleme
 				throw new Exception("Stop call failed. Reason: " + result.getValue());
 			}
 
-			// Check if server is *really* stopped
-			while (!getServerStatus(true).equals(STOPPED_NOT_LISTENING)) {
-				Thread.sleep(100);
+			// Check if server is *really* stopped: either its process terminates or its
+			// admin port closes
+			CountDownLatch stopped = new CountDownLatch(1);
+			IProcess process = getServerProcess();
+			IDebugEventSetListener terminateListener = null;
+
+			if (process != null) {
+				terminateListener = new IDebugEventSetListener() {
+
+					@Override
+					public void handleDebugEvents(DebugEvent[] events) {
+						for (DebugEvent event : events) {
+							if (event.getKind() == TERMINATE && event.getSource() == process) {
+								stopped.countDown();
+							}
+						}
+					}
+				};
+				DebugPlugin.getDefault().addDebugEventListener(terminateListener);
+
+				if (process.isTerminated()) {
+					stopped.countDown();
+				}
+			}
+
+			try {
+				long probeDelay = STOP_PROBE_MIN_DELAY;
+				while (!stopped.await(probeDelay, MILLISECONDS)
+						&& isAdminPortListening(getPayaraServerDelegate(), STOP_PROBE_TIMEOUT)) {
+					probeDelay = Math.min(probeDelay * 2, STOP_PROBE_MAX_DELAY);
+				}
+			} finally {
+				if (terminateListener != null) {
+					DebugPlugin.getDefault().removeDebugEventListener(terminateListener);
+				}
 			}
 
+			// Let the status monitor see the stopped server, the admin port is closed so
+			// this doesn't send any admin command
+			getServerStatus(true);
+
 			((Server) getServer()).setServerStatus(null);
 
 			return result;
 		}
 
+		/*
+		 * Returns the running process of the local server launch, if any.
+		 */
+		private IProcess getServerProcess() {
+			ILaunch launch = getServer().getLaunch();
+			if (launch == null) {
+				return null;
+			}
+
+			for (IProcess process : launch.getProcesses()) {
+				if (!process.isTerminated()) {
+					return process;
+				}
+			}
+
+			return null;
+		}
+
 	}
 }
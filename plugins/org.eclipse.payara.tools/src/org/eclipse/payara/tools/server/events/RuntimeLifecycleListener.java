@@ -19,7 +19,7 @@
 package org.eclipse.payara.tools.server.events;
 
 import static org.eclipse.core.resources.ResourcesPlugin.getWorkspace;
-import static org.eclipse.payara.tools.internal.SystemLibrariesContainer.getContainersRefresherThread;
+import static org.eclipse.payara.tools.internal.SystemLibrariesContainer.getContainersRefreshJob;
 import static org.eclipse.payara.tools.internal.SystemLibrariesContainer.isOnClasspath;
 import static org.eclipse.payara.tools.utils.IsPayaraUtil.isPayara;
 
@@ -62,7 +62,7 @@ public class RuntimeLifecycleListener implements IRuntimeLifecycleListener {
 		for (IProject project : getWorkspace().getRoot().getProjects()) {
 			try {
 				if (isOnClasspath(project)) {
-					getContainersRefresherThread().addProjectToQueue(project);
+					getContainersRefreshJob().addProjectToQueue(project);
 				}
 			} catch (CoreException e) {
 				PayaraToolsPlugin.log(e);
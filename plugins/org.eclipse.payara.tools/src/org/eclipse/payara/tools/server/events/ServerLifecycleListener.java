@@ -24,6 +24,7 @@ import org.eclipse.core.resources.IWorkspace;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.Path;
+import org.eclipse.payara.tools.sdk.admin.ServerAdmin;
 import org.eclipse.payara.tools.server.PayaraServer;
 import org.eclipse.wst.server.core.IServer;
 import org.eclipse.wst.server.core.IServerLifecycleListener;
@@ -126,6 +127,9 @@ public class ServerLifecycleListener implements IServerLifecycleListener {
 		// Since the server is removed, we can remove the corresponding project
 		// as well.
 		deleteServerProject(server.getAttribute("name", ""));
+
+		// Release threads used to execute administration commands on this server.
+		ServerAdmin.release(server.getId());
 	}
 
 	private void createServerProject(PayaraServer payaraServer) {
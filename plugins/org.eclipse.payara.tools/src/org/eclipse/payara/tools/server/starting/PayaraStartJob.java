@@ -38,10 +38,14 @@ import org.eclipse.payara.tools.sdk.PayaraIdeException;
 import org.eclipse.payara.tools.sdk.admin.ResultProcess;
 import org.eclipse.payara.tools.sdk.server.FetchLogSimple;
 import org.eclipse.payara.tools.sdk.server.ServerTasks.StartMode;
+import org.eclipse.payara.tools.server.ServerStatus;
 import org.eclipse.payara.tools.server.deploying.PayaraServerBehaviour;
+import org.eclipse.payara.tools.server.starting.StartupReadiness.Signal;
 
 public class PayaraStartJob implements Callable<ResultProcess> {
 
+	private static final long CANCEL_CHECK_INTERVAL = 500;
+
 	private PayaraServerBehaviour payaraServerBehaviour;
 	private StartupArgsImpl args;
 	private StartMode mode;
@@ -75,17 +79,23 @@ public class PayaraStartJob implements Callable<ResultProcess> {
 
 		IPayaraConsole filelogConsole = getStandardConsole(payaraServerBehaviour.getPayaraServerDelegate());
 
-		synchronized (payaraServerBehaviour) {
+		// Wake up on whatever tells the server may be ready first: the startup log line,
+		// the admin port opening, a status change or the process exiting
+		try (StartupReadiness readiness = new StartupReadiness()) {
+			readiness.watchConsole(startupConsole);
+			readiness.watchConsole(filelogConsole);
+			readiness.watchStatus(payaraServerBehaviour.getServerStatusMonitor());
+			readiness.watchProcess(payaraProcess);
+			readiness.watchAdminPort(payaraServerBehaviour.getPayaraServerDelegate());
 
 			boolean attached = false;
-			boolean hasLogged = false;
-			boolean hasLoggedPayara = false;
+			ServerStatus status = payaraServerBehaviour.getServerStatus(false);
 
-			// Query the process status in a loop
+			// Check the server status whenever a signal arrives
 
 			check_server_status: while (true) {
 
-				switch (payaraServerBehaviour.getServerStatus(false)) {
+				switch (status) {
 				case STOPPED_NOT_LISTENING:
 					try {
 						if (payaraProcess.isAlive()) {
@@ -143,26 +153,40 @@ public class PayaraStartJob implements Callable<ResultProcess> {
 					break;
 				}
 
-				// Wait for notification when server state changes
+				// Wait for the next readiness signal
 				try {
 					checkMonitor(monitor);
 
-					// Limit waiting so we can check process exit code again
-					payaraServerBehaviour.wait(500);
+					// Limit waiting so we can check for cancellation and retry the debugger attach
+					Signal signal = readiness.next(CANCEL_CHECK_INTERVAL);
+
+					if (signal == null) {
+						status = payaraServerBehaviour.getServerStatus(false);
+						continue;
+					}
 
-					if (!hasLogged && (startupConsole.hasLogged() || filelogConsole.hasLogged())) {
+					switch (signal) {
+					case LOGGED:
 						// Something has been logged meaning the JVM of the target
 						// process is activated. Could be JVM logging first
 						// like "waiting for connection", or the first log line of Payara starting
-						hasLogged = true;
 						checkMonitorAndProgress(monitor, WORK_STEP / 4);
-					}
-
-					if (!hasLoggedPayara && filelogConsole.hasLoggedPayara()) {
-
+						status = payaraServerBehaviour.getServerStatus(false);
+						break;
+					case LOGGED_PAYARA:
 						// A Payara logline has been written, meaning Payara is now starting up.
-						hasLoggedPayara = true;
 						checkMonitorAndProgress(monitor, WORK_STEP / 4);
+						status = payaraServerBehaviour.getServerStatus(false);
+						break;
+					case LOGGED_STARTED:
+					case ADMIN_PORT_OPEN:
+						// Server claims to be up, confirm it serves our domain right away
+						// instead of waiting for the next status monitor poll
+						status = payaraServerBehaviour.getServerStatus(true);
+						break;
+					default:
+						status = payaraServerBehaviour.getServerStatus(false);
+						break;
 					}
 
 				} catch (InterruptedException e) {
@@ -0,0 +1,172 @@
+/******************************************************************************
+ * Copyright (c) 2020 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.eclipse.payara.tools.server.starting;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.eclipse.payara.tools.sdk.utils.ServerUtils.isAdminPortListening;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.regex.Pattern;
+
+import org.eclipse.payara.tools.internal.ServerStateListener;
+import org.eclipse.payara.tools.internal.ServerStatusMonitor;
+import org.eclipse.payara.tools.log.IPayaraConsole;
+import org.eclipse.payara.tools.log.IPayaraConsole.LogListener;
+import org.eclipse.payara.tools.server.PayaraServer;
+import org.eclipse.payara.tools.server.ServerStatus;
+
+/**
+ * Collects the signals telling that a starting server may have become ready.
+ *
+ * <p>
+ * Signals come from the startup and server log consoles, from the server
+ * status monitor, from a watcher waiting for the server process to exit and
+ * from a probe waiting for the admin port to open. Each signal is queued at
+ * most once until it is taken, so a busy log does not flood the queue.
+ */
+class StartupReadiness implements LogListener, ServerStateListener, AutoCloseable {
+
+	enum Signal {
+		/** Something has been logged, the server JVM is running. */
+		LOGGED,
+		/** A Payara log record has been logged, Payara is starting. */
+		LOGGED_PAYARA,
+		/** Payara logged its startup time, it should be ready. */
+		LOGGED_STARTED,
+		/** The admin port accepts connections. */
+		ADMIN_PORT_OPEN,
+		/** The status monitor reported a status change. */
+		STATUS_CHANGED,
+		/** The server process exited. */
+		PROCESS_EXITED
+	}
+
+	/* Matches "Payara Server 5.x ... startup time : Felix (..ms), ..." */
+	private static final Pattern STARTED_PATTERN = Pattern.compile("startup time\\s*:");
+
+	private static final int MIN_PROBE_DELAY = 50;
+	private static final int MAX_PROBE_DELAY = 1000;
+	private static final int PROBE_TIMEOUT = 500;
+
+	private final BlockingQueue<Signal> signals = new LinkedBlockingQueue<>();
+	private final List<IPayaraConsole> consoles = new ArrayList<>();
+	private final List<Thread> watchers = new ArrayList<>();
+	private ServerStatusMonitor statusMonitor;
+
+	private volatile boolean logged;
+	private volatile boolean loggedPayara;
+	private volatile boolean loggedStarted;
+	private volatile boolean closed;
+
+	void watchConsole(IPayaraConsole console) {
+		console.addLogListener(this);
+		consoles.add(console);
+	}
+
+	void watchStatus(ServerStatusMonitor statusMonitor) {
+		if (statusMonitor != null) {
+			statusMonitor.registerServerStatusListener(this);
+			this.statusMonitor = statusMonitor;
+		}
+	}
+
+	void watchProcess(Process process) {
+		startWatcher("Payara process watcher", () -> {
+			try {
+				process.waitFor();
+				signal(Signal.PROCESS_EXITED);
+			} catch (InterruptedException e) {
+				// Closed
+			}
+		});
+	}
+
+	void watchAdminPort(PayaraServer server) {
+		startWatcher("Payara admin port probe", () -> {
+			try {
+				for (int delay = MIN_PROBE_DELAY; !closed; delay = Math.min(delay * 2, MAX_PROBE_DELAY)) {
+					if (isAdminPortListening(server, PROBE_TIMEOUT)) {
+						signal(Signal.ADMIN_PORT_OPEN);
+						return;
+					}
+					Thread.sleep(delay);
+				}
+			} catch (InterruptedException e) {
+				// Closed
+			}
+		});
+	}
+
+	/**
+	 * Waits for the next signal.
+	 *
+	 * @return the next signal, or <code>null</code> when none arrived in time
+	 */
+	Signal next(long timeoutMillis) throws InterruptedException {
+		return signals.poll(timeoutMillis, MILLISECONDS);
+	}
+
+	@Override
+	public void logged(String record, boolean payaraStarted) {
+		if (!logged) {
+			logged = true;
+			signal(Signal.LOGGED);
+		}
+
+		if (payaraStarted && !loggedPayara) {
+			loggedPayara = true;
+			signal(Signal.LOGGED_PAYARA);
+		}
+
+		if (!loggedStarted && STARTED_PATTERN.matcher(record).find()) {
+			loggedStarted = true;
+			signal(Signal.LOGGED_STARTED);
+		}
+	}
+
+	@Override
+	public void serverStatusChanged(ServerStatus newStatus) {
+		signal(Signal.STATUS_CHANGED);
+	}
+
+	@Override
+	public void close() {
+		closed = true;
+
+		for (IPayaraConsole console : consoles) {
+			console.removeLogListener(this);
+		}
+
+		if (statusMonitor != null) {
+			statusMonitor.unregisterServerStatusListener(this);
+		}
+
+		for (Thread watcher : watchers) {
+			watcher.interrupt();
+		}
+	}
+
+	private synchronized void signal(Signal signal) {
+		if (!closed && !signals.contains(signal)) {
+			signals.offer(signal);
+		}
+	}
+
+	private void startWatcher(String name, Runnable watcher) {
+		Thread thread = new Thread(watcher, name);
+		thread.setDaemon(true);
+		watchers.add(thread);
+		thread.start();
+	}
+
+}
@@ -19,14 +19,10 @@
 package org.eclipse.payara.tools.utils;
 
 import java.io.File;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 import org.eclipse.core.runtime.CoreException;
-import org.eclipse.core.runtime.FileLocator;
 import org.eclipse.core.runtime.IPath;
-import org.eclipse.core.runtime.Platform;
 import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.launching.IVMInstall;
@@ -35,13 +31,13 @@ import org.eclipse.jdt.launching.IVMInstallType;
 import org.eclipse.jdt.launching.JavaRuntime;
 import org.eclipse.jdt.launching.VMStandin;
 import org.eclipse.payara.tools.PayaraToolsPlugin;
+import org.eclipse.payara.tools.sdk.utils.JavaVmMetadata;
 import org.eclipse.sapphire.Filter;
 import org.eclipse.sapphire.LocalizableText;
 import org.eclipse.sapphire.Text;
 import org.eclipse.sapphire.Version;
 import org.eclipse.sapphire.VersionConstraint;
 import org.eclipse.sapphire.modeling.Status;
-import org.osgi.framework.Bundle;
 
 /**
  * @author <a href="mailto:konstantin.komissarchik@oracle.com">Konstantin Komissarchik</a>
@@ -73,8 +69,6 @@ public final class JdtUtil {
         LocalizableText.init(JdtUtil.class);
     }
 
-    private static final Map<File, String> jvmLocationToVersionMap = new HashMap<>();
-
     public static final class JvmValidator {
 
         private File location;
@@ -327,54 +321,11 @@ public final class JdtUtil {
 
     public static String detectJavaVersion(final File location) {
         if (location != null) {
-            synchronized (jvmLocationToVersionMap) {
-                String version = jvmLocationToVersionMap.get(location);
-
-                if (version == null) {
-                    final File exec = findJavaExecutable(location);
-
-                    if (exec != null) {
-                        try {
-                            final Bundle bundle = Platform.getBundle("org.eclipse.payara.tools.jver");
-
-                            File cp = FileLocator.getBundleFile(bundle);
-
-                            if (cp.isDirectory()) {
-                                cp = new File(cp, "bin");
-                            }
-
-                            final Process process = Runtime.getRuntime().exec(
-                                    new String[] {
-                                            exec.getAbsolutePath(),
-                                            "-cp",
-                                            cp.getAbsolutePath(),
-                                            "org.eclipse.payara.tools.jver.JavaVersionDetector"
-                                    });
-
-                            final StreamGobbler outStreamGobbler = new StreamGobbler(process.getInputStream());
-                            final StreamGobbler errStreamGobbler = new StreamGobbler(process.getErrorStream());
-
-                            outStreamGobbler.start();
-                            errStreamGobbler.start();
-
-                            try {
-                                process.waitFor();
-                            } catch (final InterruptedException e) {
-                            }
-
-                            final String output = outStreamGobbler.output().trim() + errStreamGobbler.output().trim();
-
-                            if (output.length() > 0) {
-                                version = output;
-                                jvmLocationToVersionMap.put(location, version);
-                            }
-                        } catch (final Exception e) {
-                            PayaraToolsPlugin.log(e);
-                        }
-                    }
-                }
+            final File exec = findJavaExecutable(location);
 
-                return version;
+            if (exec != null) {
+                // Reads the JDK release file when present, results are cached across sessions
+                return JavaVmMetadata.version(exec);
             }
         }
 
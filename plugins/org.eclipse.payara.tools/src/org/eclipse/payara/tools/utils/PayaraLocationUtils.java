@@ -18,17 +18,30 @@
 
 package org.eclipse.payara.tools.utils;
 
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static java.util.Collections.emptyList;
+import static org.eclipse.payara.tools.PayaraToolsPlugin.logMessage;
 import static org.eclipse.payara.tools.internal.ManifestUtil.readManifestEntry;
 
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.lang.ref.SoftReference;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -36,6 +49,7 @@ import org.apache.tools.ant.DirectoryScanner;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.payara.tools.PayaraToolsPlugin;
 import org.eclipse.payara.tools.internal.SystemLibraries;
 import org.eclipse.sapphire.Version;
 import org.eclipse.wst.common.project.facet.core.IFacetedProject;
@@ -48,6 +62,12 @@ import org.eclipse.wst.common.project.facet.core.runtime.IRuntimeComponent;
  * 
  * <p>
  * Primarily supplies the version and the libraries associated with the Payara location.
+ * 
+ * <p>
+ * Library groups are scanned lazily, each at most once, and different groups may be scanned
+ * concurrently. Scan results of the default group are persisted in plugin state together with a
+ * fingerprint of every directory its patterns point into, so they are reused after restart without
+ * walking the install again. The all group spans the whole install and is never persisted.
  *
  * @author <a href="mailto:konstantin.komissarchik@oracle.com">Konstantin Komissarchik</a>
  */
@@ -65,8 +85,20 @@ public final class PayaraLocationUtils {
 
     private static final Map<File, SoftReference<PayaraLocationUtils>> CACHE = new HashMap<>();
 
+    private static final String INDEX_DIRECTORY = "library-index";
+    private static final String LOCATION_KEY = "location";
+    private static final String FINGERPRINT_KEY = "fingerprint";
+    private static final String VERSION_KEY = "version";
+    private static final String GROUP_KEY_PREFIX = "group.";
+    private static final String GROUP_FINGERPRINT_KEY_PREFIX = "group.fingerprint.";
+
+    private final File payaraLocation;
     private final Version version;
-    private final Map<String, List<File>> libraries;
+    private final Map<String, FutureTask<List<File>>> libraries = new ConcurrentHashMap<>();
+
+    // Persisted scan results, only valid ones are loaded
+    private final Properties index;
+    private final File indexFile;
     
     
     // #### static factory / finder methods
@@ -207,16 +239,60 @@ public final class PayaraLocationUtils {
             throw new IllegalArgumentException();
         }
 
-        version = readPayaraVerionFromAPIJar(gfApiJar);
-        libraries = readLibraryFilesFromPayaraLocation(payaraLocation, version);
+        this.payaraLocation = payaraLocation;
+
+        String fingerprint = fingerprint(payaraLocation, gfApiJar);
+        indexFile = indexFile(payaraLocation);
+        index = loadIndex(indexFile, payaraLocation, fingerprint);
+
+        String indexedVersion = index.getProperty(VERSION_KEY);
+        version = indexedVersion != null ? new Version(indexedVersion) : readPayaraVerionFromAPIJar(gfApiJar);
+
+        index.setProperty(LOCATION_KEY, payaraLocation.getAbsolutePath());
+        index.setProperty(FINGERPRINT_KEY, fingerprint);
+        index.setProperty(VERSION_KEY, version.toString());
     }
 
     public Version version() {
         return version;
     }
     
+    /**
+     * Gets the directory Payara is installed in, the one containing <code>modules</code>.
+     * 
+     * @return Payara install directory
+     */
+    public File location() {
+        return payaraLocation;
+    }
+    
+    /**
+     * Gets the libraries of the given group, scanning the Payara location on first use unless
+     * a persisted scan result is still valid.
+     * 
+     * @param libraryGroup {@link #DEFAULT_LIBRARIES} or {@link #ALL_LIBRARIES}
+     * 
+     * @return library files, or <code>null</code> for an unknown group
+     */
     public List<File> getLibraries(String libraryGroup) {
-        return libraries.get(libraryGroup);
+        if (!DEFAULT_LIBRARIES.equals(libraryGroup) && !ALL_LIBRARIES.equals(libraryGroup)) {
+            return null;
+        }
+        
+        FutureTask<List<File>> libraryTask = libraries.computeIfAbsent(libraryGroup,
+                group -> new FutureTask<>(() -> loadLibraries(group)));
+
+        // Runs the scan in this thread, or does nothing when another thread already did
+        libraryTask.run();
+        
+        try {
+            return libraryTask.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return emptyList();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
     }
     
     
@@ -241,26 +317,63 @@ public final class PayaraLocationUtils {
     }
     
     /**
-     * Gets the relative file name patterns for the system libraries corresponding to the given Payara
-     * version, and turns these into a list of actual files for the given Payara location on disk.
+     * Gets the libraries of the given group from the persisted index, or scans the Payara location
+     * and persists the result. Only the default group is persisted, its patterns point into a few
+     * known directories which are cheap to fingerprint.
      * 
-     * @param payaraLocation location where Payara is installed
-     * @param payaraVersion version of Payara for which libraries are to be retrieved
+     * @param libraryGroup group of libraries to be retrieved
      * 
      * @return list of system libraries as actual files
      */
-    private Map<String, List<File>> readLibraryFilesFromPayaraLocation(File payaraLocation, Version payaraVersion) {
-        Map<String, List<File>> librariesPerVariant = new HashMap<>();
+    private List<File> loadLibraries(String libraryGroup) {
+        if (!DEFAULT_LIBRARIES.equals(libraryGroup)) {
+            return readLibraryFilesFromPayaraLocation(libraryGroup);
+        }
+        
+        File parentFolderToLocation = payaraLocation.getParentFile();
+        String fingerprint = fingerprint(parentFolderToLocation, SystemLibraries.getLibraryIncludesByVersion(version));
+        String indexed = index.getProperty(GROUP_KEY_PREFIX + libraryGroup);
+        
+        if (indexed != null && fingerprint.equals(index.getProperty(GROUP_FINGERPRINT_KEY_PREFIX + libraryGroup))) {
+            List<File> libraries = new ArrayList<>();
+            for (String libraryRelativePath : indexed.split("\n")) {
+                if (!libraryRelativePath.isEmpty()) {
+                    libraries.add(new File(parentFolderToLocation, libraryRelativePath));
+                }
+            }
+            
+            return libraries;
+        }
         
-        librariesPerVariant.put(
-            DEFAULT_LIBRARIES, 
-            readLibrariesByPattern(payaraLocation, SystemLibraries.getLibraryIncludesByVersion(payaraVersion)));
+        List<File> libraries = readLibraryFilesFromPayaraLocation(libraryGroup);
         
-        librariesPerVariant.put(
-            ALL_LIBRARIES, 
-            readLibrariesByPattern(payaraLocation, new String[] {"**/*.jar"}, new String[] {"**/osgi-cache/**"}));
+        StringBuilder relativePaths = new StringBuilder();
+        int prefixLength = parentFolderToLocation.getPath().length() + 1;
+        for (File library : libraries) {
+            relativePaths.append(library.getPath().substring(prefixLength)).append('\n');
+        }
+        
+        index.setProperty(GROUP_KEY_PREFIX + libraryGroup, relativePaths.toString());
+        index.setProperty(GROUP_FINGERPRINT_KEY_PREFIX + libraryGroup, fingerprint);
+        saveIndex();
+        
+        return libraries;
+    }
+    
+    /**
+     * Gets the relative file name patterns for the given group of system libraries, and turns
+     * these into a list of actual files for the Payara location on disk.
+     * 
+     * @param libraryGroup group of libraries to be retrieved
+     * 
+     * @return list of system libraries as actual files
+     */
+    private List<File> readLibraryFilesFromPayaraLocation(String libraryGroup) {
+        if (DEFAULT_LIBRARIES.equals(libraryGroup)) {
+            return readLibrariesByPattern(payaraLocation, SystemLibraries.getLibraryIncludesByVersion(version));
+        }
         
-        return librariesPerVariant;
+        return readLibrariesByPattern(payaraLocation, new String[] {"**/*.jar"}, new String[] {"**/osgi-cache/**"});
     }
     
     private List<File> readLibrariesByPattern(File payaraLocation, String[] inclusionPattern) {
@@ -294,6 +407,98 @@ public final class PayaraLocationUtils {
         
     }
     
+    /**
+     * Cheap fingerprint of the Payara location, changes when modules are added, removed or
+     * replaced, or when Payara is updated.
+     */
+    private static String fingerprint(File payaraLocation, File gfApiJar) {
+        File modules = new File(payaraLocation, "modules");
+        
+        return modules.lastModified() + ":" + gfApiJar.length() + ":" + gfApiJar.lastModified();
+    }
+    
+    /**
+     * Cheap fingerprint of the directories the given patterns point into, changes when libraries
+     * are added to, removed from or renamed in any of them.
+     */
+    private static String fingerprint(File parentFolderToLocation, String[] inclusionPattern) {
+        if (inclusionPattern == null) {
+            return "";
+        }
+        
+        Set<String> directories = new TreeSet<>();
+        for (String pattern : inclusionPattern) {
+            int slash = pattern.lastIndexOf('/');
+            directories.add(slash < 0 ? "" : pattern.substring(0, slash));
+        }
+        
+        StringBuilder fingerprint = new StringBuilder();
+        for (String directory : directories) {
+            fingerprint.append(new File(parentFolderToLocation, directory).lastModified()).append(':');
+        }
+        
+        return fingerprint.toString();
+    }
+    
+    private static File indexFile(File payaraLocation) {
+        PayaraToolsPlugin plugin = PayaraToolsPlugin.getInstance();
+        if (plugin == null) {
+            return null;
+        }
+        
+        return new File(plugin.getStateLocation().append(INDEX_DIRECTORY).toFile(),
+                Integer.toHexString(payaraLocation.getAbsolutePath().hashCode()) + ".properties");
+    }
+    
+    /**
+     * Loads the persisted index, discarding it when it was written for another location or the
+     * location changed since.
+     */
+    private static Properties loadIndex(File indexFile, File payaraLocation, String fingerprint) {
+        Properties index = new Properties();
+        
+        if (indexFile != null && indexFile.isFile()) {
+            try (FileInputStream fis = new FileInputStream(indexFile)) {
+                index.load(fis);
+            } catch (IOException e) {
+                logMessage("PayaraLocationUtils ignoring unreadable library index " + indexFile);
+                index.clear();
+            }
+            
+            if (!payaraLocation.getAbsolutePath().equals(index.getProperty(LOCATION_KEY))
+                    || !fingerprint.equals(index.getProperty(FINGERPRINT_KEY))) {
+                index.clear();
+            }
+        }
+        
+        return index;
+    }
+    
+    private void saveIndex() {
+        if (indexFile == null) {
+            return;
+        }
+        
+        synchronized (index) {
+            indexFile.getParentFile().mkdirs();
+            File tempFile = new File(indexFile.getPath() + ".tmp");
+            
+            try {
+                try (FileOutputStream fos = new FileOutputStream(tempFile)) {
+                    index.store(fos, "Payara library index");
+                }
+                
+                try {
+                    Files.move(tempFile.toPath(), indexFile.toPath(), REPLACE_EXISTING, ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(tempFile.toPath(), indexFile.toPath(), REPLACE_EXISTING);
+                }
+            } catch (IOException e) {
+                logMessage("PayaraLocationUtils cannot save library index " + indexFile + ": " + e.getMessage());
+            }
+        }
+    }
+    
     private void checkLocationIsValid(File location) {
         if (location == null || !location.exists() || !location.isDirectory()) {
             throw new IllegalArgumentException();
@@ -49,9 +49,8 @@ import org.eclipse.payara.tools.PayaraToolsPlugin;
 import org.eclipse.payara.tools.sdk.TaskState;
 import org.eclipse.payara.tools.sdk.admin.Command;
 import org.eclipse.payara.tools.sdk.admin.CommandGetProperty;
-import org.eclipse.payara.tools.sdk.admin.CommandSetProperty;
+import org.eclipse.payara.tools.sdk.admin.CommandSetProperties;
 import org.eclipse.payara.tools.sdk.admin.ResultMap;
-import org.eclipse.payara.tools.sdk.admin.ResultString;
 import org.eclipse.payara.tools.sdk.admin.ServerAdmin;
 import org.eclipse.payara.tools.sdk.data.IdeContext;
 import org.eclipse.payara.tools.sdk.server.parser.ResourcesReader;
@@ -369,25 +368,14 @@ public class ResourceUtils {
     public static void putResourceData(PayaraServer server, Map<String, String> data) throws PartialCompletionException {
         String itemsNotUpdated = null;
         Throwable lastEx = null;
-        for (final Map.Entry<String, String> entry : data.entrySet()) {
-            String compName = entry.getKey();
-            String compValue = entry.getValue();
-
-            try {
-                Command command = new CommandSetProperty(compName, compValue);
-                Future<ResultString> future = ServerAdmin.<ResultString>exec(server, command);
-                ResultString result = future.get(30, TimeUnit.SECONDS);
-                if (!TaskState.COMPLETED.equals(result.getState())) {
-                    itemsNotUpdated = addName(compName, itemsNotUpdated);
+        Map<String, CommandSetProperties.Outcome> outcomes = CommandSetProperties.setProperties(server, data,
+                TimeUnit.SECONDS.toMillis(30));
+        for (final Map.Entry<String, CommandSetProperties.Outcome> entry : outcomes.entrySet()) {
+            if (!TaskState.COMPLETED.equals(entry.getValue().getState())) {
+                itemsNotUpdated = addName(entry.getKey(), itemsNotUpdated);
+                if (null != entry.getValue().getCause()) {
+                    lastEx = entry.getValue().getCause();
                 }
-            } catch (InterruptedException ex) {
-                lastEx = ex;
-                Logger.getLogger("glassfish").log(Level.INFO, ex.getMessage(), ex); // NOI18N
-                itemsNotUpdated = addName(compName, itemsNotUpdated);
-            } catch (Exception ex) {
-                lastEx = ex;
-                Logger.getLogger("glassfish").log(Level.INFO, ex.getMessage(), ex); // NOI18N
-                itemsNotUpdated = addName(compName, itemsNotUpdated);
             }
         }
         if (null != itemsNotUpdated) {
@@ -54,14 +54,6 @@ import org.eclipse.wst.server.core.IServer;
 public class ServerStatusHelper {
 
     public static ServerStatus checkServerStatus(PayaraServer server) {
-        
-        // Randomly wait for some random reason
-        try {
-            Thread.sleep(Math.round(Math.random() * 1000));
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            return NOT_DEFINED;
-        }
 
         if (!isAdminPortListening(server)) {
             return STOPPED_NOT_LISTENING;
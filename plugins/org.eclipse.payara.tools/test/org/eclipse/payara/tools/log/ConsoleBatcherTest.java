@@ -0,0 +1,115 @@
+/******************************************************************************
+ * Copyright (c) 2020 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.eclipse.payara.tools.log;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+
+/**
+ * Console batcher ordering test.
+ */
+public class ConsoleBatcherTest {
+
+	private static final int LINES = 20000;
+
+	/**
+	 * Test flush taking the next batch while the previous one is still being
+	 * written waits for it.
+	 */
+	@Test(timeout = 10000)
+	public void flushWaitsForBatchBeingPrinted() throws Exception {
+		StringBuffer printed = new StringBuffer();
+		CountDownLatch firstPrinting = new CountDownLatch(1);
+		CountDownLatch secondPrinted = new CountDownLatch(1);
+		ConsoleBatcher batcher = new ConsoleBatcher(text -> {
+			if (firstPrinting.getCount() > 0) {
+				firstPrinting.countDown();
+				try {
+					// Gives a concurrent flush the chance to print first
+					secondPrinted.await(500, TimeUnit.MILLISECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				printed.append(text);
+			} else {
+				printed.append(text);
+				secondPrinted.countDown();
+			}
+		});
+
+		batcher.println("first");
+		Thread first = new Thread(batcher::flush);
+		first.start();
+		firstPrinting.await();
+
+		batcher.println("second");
+		Thread second = new Thread(batcher::flush);
+		second.start();
+		first.join();
+		second.join();
+
+		assertEquals("first\nsecond\n", printed.toString());
+	}
+
+	/**
+	 * Test lines reach the console in queue order while batches are flushed
+	 * concurrently from several threads.
+	 */
+	@Test(timeout = 60000)
+	public void concurrentFlushesKeepLineOrder() throws Exception {
+		StringBuffer printed = new StringBuffer();
+		ConsoleBatcher batcher = new ConsoleBatcher(text -> {
+			// Slow console widens the window between taking and printing a batch
+			if (ThreadLocalRandom.current().nextInt(16) == 0) {
+				try {
+					Thread.sleep(1);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			printed.append(text);
+		});
+
+		AtomicBoolean writing = new AtomicBoolean(true);
+		List<Thread> flushers = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			Thread flusher = new Thread(() -> {
+				while (writing.get()) {
+					batcher.flush();
+				}
+			});
+			flusher.start();
+			flushers.add(flusher);
+		}
+
+		StringBuilder expected = new StringBuilder();
+		for (int i = 0; i < LINES; i++) {
+			batcher.println(Integer.toString(i));
+			expected.append(i).append('\n');
+		}
+		writing.set(false);
+		for (Thread flusher : flushers) {
+			flusher.join();
+		}
+		batcher.flush();
+
+		assertEquals(expected.toString(), printed.toString());
+		assertEquals(LINES, batcher.getLinesWritten());
+	}
+
+}
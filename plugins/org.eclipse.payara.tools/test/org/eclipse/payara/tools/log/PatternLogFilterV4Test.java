@@ -0,0 +1,130 @@
+/******************************************************************************
+ * Copyright (c) 2020 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.eclipse.payara.tools.log;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+
+import org.eclipse.payara.tools.sdk.server.LogFilterSpec;
+import org.junit.Test;
+
+/**
+ * Payara (ODL) log records assembler test.
+ */
+public class PatternLogFilterV4Test {
+
+	private static final String HEADER = "[2020-05-12T10:15:30.123+0200] [Payara 5.201] [%s] [] [%s] "
+			+ "[tid: _ThreadID=1 _ThreadName=main] [timeMillis: %d] [levelValue: %d] [[";
+
+	private static final long TIME = 1589271330123L;
+
+	private static String header(String level, String logger, long timeMillis, int levelValue) {
+		return String.format(HEADER, level, logger, timeMillis, levelValue);
+	}
+
+	/**
+	 * Feeds lines as the log reader does.
+	 */
+	private static List<String> process(PatternLogFilterV4 filter, String... lines) {
+		List<String> result = new ArrayList<>();
+		for (String line : lines) {
+			String processed = filter.process(line);
+			if (processed != null) {
+				result.add(processed);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Test record is formatted once the delimiter line follows the closed message.
+	 */
+	@Test
+	public void singleRecord() {
+		PatternLogFilterV4 filter = new PatternLogFilterV4();
+		List<String> result = process(filter, header("INFO", "javax.enterprise.system.core", TIME, 800),
+				"  Server started]]");
+		assertTrue(result.isEmpty());
+
+		result = process(filter, "");
+		assertEquals(1, result.size());
+		assertEquals("2020-05-12T10:15:30.123+0200|INFO: Server started", result.get(0));
+		assertTrue(filter.hasProcessedPayara());
+	}
+
+	/**
+	 * Test message lines ending with brackets don't end the record unless the
+	 * delimiter line follows.
+	 */
+	@Test
+	public void bracketsInMessage() {
+		List<String> result = process(new PatternLogFilterV4(), header("WARNING", "org.example", TIME, 900),
+				"  int x = a[b[0]]", "  done]]", "");
+		assertEquals(1, result.size());
+		assertEquals("2020-05-12T10:15:30.123+0200|WARNING: int x = a[b[0]]\n  done", result.get(0));
+	}
+
+	/**
+	 * Test consecutive records are assembled independently.
+	 */
+	@Test
+	public void consecutiveRecords() {
+		List<String> result = process(new PatternLogFilterV4(), header("INFO", "org.example", TIME, 800), "  first]]",
+				"", header("SEVERE", "org.example", TIME, 1000), "  second]]", "");
+		assertEquals(2, result.size());
+		assertEquals("2020-05-12T10:15:30.123+0200|INFO: first", result.get(0));
+		assertEquals("2020-05-12T10:15:30.123+0200|SEVERE: second", result.get(1));
+	}
+
+	/**
+	 * Test malformed record is dropped and does not count as Payara record.
+	 */
+	@Test
+	public void malformedRecord() {
+		PatternLogFilterV4 filter = new PatternLogFilterV4();
+		List<String> result = process(filter, "[2020-05-12T10:15:30.123+0200] [Payara 5.201] broken]]", "");
+		assertTrue(result.isEmpty());
+		assertFalse(filter.hasProcessedPayara());
+	}
+
+	/**
+	 * Test filter specification is evaluated on numeric level value, logger and
+	 * time, rejected records still count as Payara records.
+	 */
+	@Test
+	public void filterSpec() {
+		PatternLogFilterV4 filter = new PatternLogFilterV4();
+		filter.setFilterSpec(new LogFilterSpec().minLevel(Level.WARNING));
+		List<String> result = process(filter, header("INFO", "org.example", TIME, 800), "  info]]", "");
+		assertTrue(result.isEmpty());
+		assertTrue(filter.hasProcessedPayara());
+
+		result = process(filter, header("WARNING", "org.example", TIME, 900), "  warning]]", "");
+		assertEquals(1, result.size());
+
+		filter.setFilterSpec(new LogFilterSpec().includeLogger("org.example.web"));
+		result = process(filter, header("INFO", "org.example.ejb", TIME, 800), "  ejb]]", "",
+				header("INFO", "org.example.web.Servlet", TIME, 800), "  web]]", "");
+		assertEquals(1, result.size());
+		assertEquals("2020-05-12T10:15:30.123+0200|INFO: web", result.get(0));
+
+		filter.setFilterSpec(new LogFilterSpec().timeWindow(TIME + 1, Long.MAX_VALUE));
+		result = process(filter, header("INFO", "org.example", TIME, 800), "  old]]", "",
+				header("INFO", "org.example", TIME + 1, 800), "  new]]", "");
+		assertEquals(1, result.size());
+		assertEquals("2020-05-12T10:15:30.123+0200|INFO: new", result.get(0));
+	}
+
+}
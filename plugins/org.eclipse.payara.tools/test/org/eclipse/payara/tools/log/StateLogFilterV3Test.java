@@ -0,0 +1,138 @@
+/******************************************************************************
+ * Copyright (c) 2020 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.eclipse.payara.tools.log;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+
+import org.eclipse.payara.tools.sdk.server.LogFilterSpec;
+import org.junit.Test;
+
+/**
+ * GlassFish 3 log records parser test.
+ */
+public class StateLogFilterV3Test {
+
+	private static final String RECORD = "[#|2020-05-12T10:15:30.123+0200|INFO|glassfish3.1|javax.enterprise.system.core|"
+			+ "_ThreadID=1;_ThreadName=main;|Server started|#]";
+
+	/**
+	 * Feeds lines as the log reader does, from UTF-8 bytes.
+	 */
+	private static List<String> process(StateLogFilterV3 filter, String... lines) {
+		List<String> result = new ArrayList<>();
+		for (String line : lines) {
+			byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+			String processed = filter.process(bytes, 0, bytes.length);
+			if (processed != null) {
+				result.add(processed);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Test single line record is formatted.
+	 */
+	@Test
+	public void singleLineRecord() {
+		List<String> result = process(new StateLogFilterV3(), RECORD);
+		assertEquals(1, result.size());
+		assertEquals("2020-05-12T10:15:30.123+0200|INFO: Server started", result.get(0));
+	}
+
+	/**
+	 * Test record spanning several lines is formatted once complete, blank lines
+	 * before message are suppressed.
+	 */
+	@Test
+	public void multiLineRecord() {
+		StateLogFilterV3 filter = new StateLogFilterV3();
+		List<String> result = process(filter,
+				"[#|2020-05-12T10:15:30.123+0200|SEVERE|glassfish3.1|org.example|_ThreadID=1;|", "", "Failure",
+				"\tat org.example.Main.main(Main.java:1)", "|#]");
+		assertEquals(1, result.size());
+		assertEquals("2020-05-12T10:15:30.123+0200|SEVERE: Failure\n\tat org.example.Main.main(Main.java:1)\n",
+				result.get(0));
+	}
+
+	/**
+	 * Test message delimiters inside message don't end the record.
+	 */
+	@Test
+	public void delimitersInMessage() {
+		List<String> result = process(new StateLogFilterV3(),
+				"[#|2020-05-12T10:15:30.123+0200|INFO|glassfish3.1|org.example|_ThreadID=1;|a | b |# c|#]");
+		assertEquals("2020-05-12T10:15:30.123+0200|INFO: a | b |# c", result.get(0));
+	}
+
+	/**
+	 * Test multi-byte UTF-8 characters are kept.
+	 */
+	@Test
+	public void utf8Message() {
+		List<String> result = process(new StateLogFilterV3(),
+				"[#|2020-05-12T10:15:30.123+0200|INFO|glassfish3.1|org.example|_ThreadID=1;|Žluťoučký kůň €|#]");
+		assertEquals("2020-05-12T10:15:30.123+0200|INFO: Žluťoučký kůň €", result.get(0));
+	}
+
+	/**
+	 * Test lines outside of records are passed as they are, including partial
+	 * record starts, and records around them are still parsed.
+	 */
+	@Test
+	public void linesOutsideRecords() {
+		List<String> result = process(new StateLogFilterV3(), "Java HotSpot(TM) 64-Bit Server VM warning: ignoring option",
+				"[", "[#", "[ not a record", "", RECORD, "stdout ž");
+		assertEquals(6, result.size());
+		assertEquals("Java HotSpot(TM) 64-Bit Server VM warning: ignoring option", result.get(0));
+		assertEquals("[", result.get(1));
+		assertEquals("[#", result.get(2));
+		assertEquals("[ not a record", result.get(3));
+		assertEquals("2020-05-12T10:15:30.123+0200|INFO: Server started", result.get(4));
+		assertEquals("stdout ž", result.get(5));
+	}
+
+	/**
+	 * Test string and byte input give the same output.
+	 */
+	@Test
+	public void stringInput() {
+		StateLogFilterV3 filter = new StateLogFilterV3();
+		assertEquals("2020-05-12T10:15:30.123+0200|INFO: Server started", filter.process(RECORD));
+		assertEquals("plain", filter.process("plain"));
+	}
+
+	/**
+	 * Test records rejected by filter specification are dropped.
+	 */
+	@Test
+	public void filterSpec() {
+		StateLogFilterV3 filter = new StateLogFilterV3();
+		filter.setFilterSpec(new LogFilterSpec().minLevel(Level.WARNING));
+		assertNull(filter.process(RECORD));
+		assertEquals("2020-05-12T10:15:30.123+0200|WARNING: Low memory",
+				filter.process(RECORD.replace("|INFO|", "|WARNING|").replace("Server started", "Low memory")));
+
+		filter.setFilterSpec(new LogFilterSpec().includeLogger("org.example"));
+		assertNull(filter.process(RECORD));
+
+		filter.setFilterSpec(new LogFilterSpec().timeWindow(1589271330124L, Long.MAX_VALUE));
+		assertNull(filter.process(RECORD));
+		filter.setFilterSpec(new LogFilterSpec().timeWindow(1589271330123L, 1589271330123L));
+		assertEquals("2020-05-12T10:15:30.123+0200|INFO: Server started", filter.process(RECORD));
+	}
+
+}
@@ -0,0 +1,241 @@
+/******************************************************************************
+ * Copyright (c) 2020 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.payara.tools.sdk.server;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.logging.Level;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Server log history index functional test.
+ */
+public class LogIndexTest {
+
+	private static final long TIME = 1589271330123L;
+
+	private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter
+			.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSZ").withZone(ZoneOffset.ofHours(2));
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private Path logFile;
+
+	@Before
+	public void setUp() throws IOException {
+		logFile = folder.newFolder("logs").toPath().resolve("server.log");
+	}
+
+	/**
+	 * GlassFish 3 record with time parsed from the header text.
+	 */
+	private static String v3(long time, Level level, String message) {
+		return "[#|" + TIME_FORMAT.format(Instant.ofEpochMilli(time)) + "|" + level + "|glassfish3.1|org.example|"
+				+ "_ThreadID=1;_ThreadName=main;|" + message + "|#]\n\n";
+	}
+
+	/**
+	 * Payara ODL record with time and level values in the header.
+	 */
+	private static String odl(long time, Level level, String logger, String message) {
+		return "[" + TIME_FORMAT.format(Instant.ofEpochMilli(time)) + "] [Payara 5.201] [" + level + "] [] ["
+				+ logger + "] [tid: _ThreadID=1 _ThreadName=main] [timeMillis: " + time + "] [levelValue: "
+				+ level.intValue() + "] [[\n  " + message + "]]\n\n";
+	}
+
+	private static long write(Path file, String... records) throws IOException {
+		long size = Files.exists(file) ? Files.size(file) : 0;
+		Files.write(file, String.join("", records).getBytes(UTF_8), StandardOpenOption.CREATE,
+				StandardOpenOption.APPEND);
+		return size;
+	}
+
+	private static void assertPosition(Path file, long offset, LogIndex.Position position) {
+		assertEquals(file, position.getFile());
+		assertEquals(offset, position.getOffset());
+	}
+
+	/**
+	 * Test GlassFish 3 records are indexed by time and level.
+	 */
+	@Test
+	public void v3Records() throws IOException {
+		write(logFile, v3(TIME, Level.INFO, "first"));
+		long warning = write(logFile, v3(TIME + 1000, Level.WARNING, "second"));
+		long severe = write(logFile, v3(TIME + 2000, Level.SEVERE, "third"));
+		LogIndex index = new LogIndex(logFile);
+		index.update();
+
+		assertPosition(logFile, 0, index.seekTime(TIME));
+		assertPosition(logFile, warning, index.seekTime(TIME + 1));
+		assertEquals(TIME + 2000, index.seekTime(TIME + 2000).getTimeMillis());
+		assertPosition(logFile, severe, index.seek(new LogFilterSpec().minLevel(Level.SEVERE)));
+		assertNull(index.seekTime(TIME + 2001));
+	}
+
+	/**
+	 * Test ODL records are indexed by time, level and logger.
+	 */
+	@Test
+	public void odlRecords() throws IOException {
+		write(logFile, odl(TIME, Level.INFO, "org.example.web", "first"));
+		long warning = write(logFile, odl(TIME + 1000, Level.WARNING, "org.example.ejb", "second"));
+		long web = write(logFile, odl(TIME + 2000, Level.WARNING, "org.example.web", "third"));
+		LogIndex index = new LogIndex(logFile);
+		index.update();
+
+		assertPosition(logFile, 0, index.seekTime(TIME));
+		assertPosition(logFile, warning, index.seekTime(TIME + 500));
+		assertPosition(logFile, warning, index.seek(new LogFilterSpec().minLevel(Level.WARNING)));
+		assertPosition(logFile, web,
+				index.seek(new LogFilterSpec().minLevel(Level.WARNING).includeLogger("org.example.web")));
+		assertPosition(logFile, 0, index.seek(new LogFilterSpec().includeLogger("org.example.web")));
+	}
+
+	/**
+	 * Test first SEVERE record is found through level marks past checkpoint
+	 * intervals full of lower level records.
+	 */
+	@Test
+	public void seekFirstSevere() throws IOException {
+		StringBuilder records = new StringBuilder();
+		long time = TIME;
+		while (records.length() < 3 * LogIndex.CHECKPOINT_INTERVAL) {
+			records.append(odl(time++, Level.INFO, "org.example", "filler"));
+		}
+		records.append(odl(time++, Level.WARNING, "org.example", "warning"));
+		write(logFile, records.toString());
+		long severe = write(logFile, odl(time++, Level.SEVERE, "org.example", "severe"));
+		write(logFile, odl(time++, Level.SEVERE, "org.example", "later"));
+		LogIndex index = new LogIndex(logFile);
+		index.update();
+
+		LogIndex.Position position = index.seek(new LogFilterSpec().minLevel(Level.SEVERE));
+		assertPosition(logFile, severe, position);
+		assertEquals(time - 2, position.getTimeMillis());
+		assertNull(index.seek(new LogFilterSpec().minLevel(Level.SEVERE).timeWindow(time, Long.MAX_VALUE)));
+	}
+
+	/**
+	 * Test seeking by time continues from rotated files to the active log file.
+	 */
+	@Test
+	public void seekTimeAcrossRotatedFiles() throws IOException {
+		Path older = logFile.resolveSibling("server.log_2020-05-10T10-00-00");
+		Path rotated = logFile.resolveSibling("server.log_2020-05-11T10-00-00");
+		write(older, v3(TIME, Level.INFO, "older"));
+		write(rotated, odl(TIME + 1000, Level.INFO, "org.example", "rotated"));
+		long rotatedSecond = write(rotated, odl(TIME + 2000, Level.INFO, "org.example", "rotated"));
+		write(logFile, odl(TIME + 3000, Level.INFO, "org.example", "active"));
+		long activeSecond = write(logFile, odl(TIME + 4000, Level.INFO, "org.example", "active"));
+		Files.write(logFile.resolveSibling("server.log_2020-05-09T10-00-00.gz"), new byte[] { 31 });
+		Files.setLastModifiedTime(older, FileTime.fromMillis(TIME));
+		Files.setLastModifiedTime(rotated, FileTime.fromMillis(TIME + 2000));
+		LogIndex index = new LogIndex(logFile);
+		index.update();
+
+		assertEquals(Arrays.asList(older, rotated, logFile), index.getFiles());
+
+		LogIndex.Position position = index.seekTime(TIME + 1500);
+		assertPosition(rotated, rotatedSecond, position);
+		assertEquals(Collections.singletonList(logFile), position.getFollowingFiles());
+
+		position = index.seekTime(TIME + 2500);
+		assertPosition(logFile, 0, position);
+		assertEquals(Collections.emptyList(), position.getFollowingFiles());
+
+		assertPosition(logFile, activeSecond, index.seekTime(TIME + 4000));
+
+		position = index.seekTime(0);
+		assertPosition(older, 0, position);
+		assertEquals(Arrays.asList(rotated, logFile), position.getFollowingFiles());
+	}
+
+	/**
+	 * Test update indexes appended records, and a partial last line only once it
+	 * is complete.
+	 */
+	@Test
+	public void incrementalUpdate() throws IOException {
+		write(logFile, odl(TIME, Level.INFO, "org.example", "first"));
+		LogIndex index = new LogIndex(logFile);
+		index.update();
+		assertNull(index.seek(new LogFilterSpec().minLevel(Level.WARNING)));
+
+		String appended = odl(TIME + 1000, Level.WARNING, "org.example", "appended");
+		long offset = write(logFile, appended.substring(0, 20));
+		index.update();
+		assertNull(index.seekTime(TIME + 1));
+
+		write(logFile, appended.substring(20));
+		index.update();
+		assertPosition(logFile, offset, index.seekTime(TIME + 1));
+		assertPosition(logFile, offset, index.seek(new LogFilterSpec().minLevel(Level.WARNING)));
+	}
+
+	/**
+	 * Test truncated log file is indexed again from start.
+	 */
+	@Test
+	public void reindexAfterTruncation() throws IOException {
+		write(logFile, odl(TIME, Level.SEVERE, "org.example", "first"),
+				odl(TIME + 1000, Level.INFO, "org.example", "second"));
+		LogIndex index = new LogIndex(logFile);
+		index.update();
+
+		Files.write(logFile, odl(TIME + 5000, Level.INFO, "org.example", "new").getBytes(UTF_8));
+		index.update();
+
+		assertNull(index.seek(new LogFilterSpec().minLevel(Level.SEVERE)));
+		LogIndex.Position position = index.seekTime(0);
+		assertPosition(logFile, 0, position);
+		assertEquals(TIME + 5000, position.getTimeMillis());
+	}
+
+	/**
+	 * Test rotated active log file keeps its index under the new name, and the
+	 * new active log file, a different file key, is indexed from start.
+	 */
+	@Test
+	public void reindexAfterRotation() throws IOException {
+		write(logFile, odl(TIME, Level.INFO, "org.example", "first"));
+		long severe = write(logFile, odl(TIME + 1000, Level.SEVERE, "org.example", "second"));
+		LogIndex index = new LogIndex(logFile);
+		index.update();
+
+		Path rotated = logFile.resolveSibling("server.log_2020-05-12T10-15-31");
+		Files.move(logFile, rotated);
+		write(logFile, odl(TIME + 2000, Level.SEVERE, "org.example", "third"));
+		index.update();
+
+		assertEquals(Arrays.asList(rotated, logFile), index.getFiles());
+		LogIndex.Position position = index.seek(new LogFilterSpec().minLevel(Level.SEVERE));
+		assertPosition(rotated, severe, position);
+		assertEquals(Collections.singletonList(logFile), position.getFollowingFiles());
+		assertPosition(logFile, 0, index.seekTime(TIME + 1500));
+	}
+
+}
@@ -0,0 +1,169 @@
+/******************************************************************************
+ * Copyright (c) 2020 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.payara.tools.sdk.server;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+/**
+ * Log ring buffer functional test.
+ */
+public class LogRingBufferTest {
+
+	/**
+	 * Writer larger than the buffer waits for the reader and no byte is lost.
+	 */
+	@Test(timeout = 10000)
+	public void blockWaitsForReader() throws Exception {
+		LogRingBuffer buffer = new LogRingBuffer(16);
+		byte[] written = new byte[100];
+		for (int i = 0; i < written.length; i++) {
+			written[i] = (byte) i;
+		}
+
+		Thread writer = startWriter(buffer, written, 100);
+		byte[] read = readAll(buffer.getInputStream(), 7);
+		writer.join();
+
+		assertArrayEquals(written, read);
+		assertEquals(written.length, buffer.getBytesWritten());
+	}
+
+	/**
+	 * Reader gets buffered data after the writer closed, then end of stream.
+	 */
+	@Test(timeout = 10000)
+	public void closedWriterEndsStreamAfterData() throws Exception {
+		LogRingBuffer buffer = new LogRingBuffer(16);
+		buffer.getOutputStream().write("abc".getBytes(UTF_8));
+		buffer.getOutputStream().close();
+
+		InputStream in = buffer.getInputStream();
+		byte[] b = new byte[16];
+		assertEquals(3, in.read(b, 0, b.length));
+		assertEquals(-1, in.read(b, 0, b.length));
+		assertEquals(-1, in.read());
+	}
+
+	/**
+	 * Waiting reader is woken up by closing the writer.
+	 */
+	@Test(timeout = 10000)
+	public void closedWriterWakesReader() throws Exception {
+		LogRingBuffer buffer = new LogRingBuffer(16);
+		AtomicReference<Integer> result = new AtomicReference<>();
+		Thread reader = new Thread(() -> {
+			try {
+				result.set(buffer.getInputStream().read());
+			} catch (IOException e) {
+				result.set(null);
+			}
+		});
+		reader.start();
+		Thread.sleep(50);
+
+		buffer.getOutputStream().close();
+		reader.join();
+
+		assertEquals(Integer.valueOf(-1), result.get());
+	}
+
+	/**
+	 * Writer waiting for space fails once the reader is closed.
+	 */
+	@Test(timeout = 10000)
+	public void closedReaderFailsWriter() throws Exception {
+		LogRingBuffer buffer = new LogRingBuffer(16);
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		Thread writer = new Thread(() -> {
+			try {
+				buffer.getOutputStream().write(new byte[64]);
+			} catch (Throwable t) {
+				failure.set(t);
+			}
+		});
+		writer.start();
+		Thread.sleep(50);
+
+		buffer.getInputStream().close();
+		writer.join();
+
+		assertEquals(IOException.class, failure.get().getClass());
+		try {
+			buffer.getInputStream().read();
+			fail("Read from closed buffer");
+		} catch (IOException e) {
+			// expected
+		}
+	}
+
+	/**
+	 * Concurrent producer and consumer using random chunk sizes pass every byte
+	 * in order.
+	 */
+	@Test(timeout = 60000)
+	public void concurrentProducerConsumerIsByteExact() throws Exception {
+		LogRingBuffer buffer = new LogRingBuffer(1000);
+		byte[] written = new byte[4 * 1024 * 1024];
+		new Random(42).nextBytes(written);
+
+		Thread writer = startWriter(buffer, written, 3000);
+		byte[] read = readAll(buffer.getInputStream(), 1500);
+		writer.join();
+
+		assertArrayEquals(written, read);
+		assertEquals(written.length, buffer.getBytesWritten());
+	}
+
+	/**
+	 * Starts a thread writing given data in random chunks up to given size and
+	 * closing the writing side afterwards.
+	 */
+	private static Thread startWriter(LogRingBuffer buffer, byte[] data, int maxChunk) {
+		Thread writer = new Thread(() -> {
+			Random random = new Random(7);
+			try (OutputStream out = buffer.getOutputStream()) {
+				for (int off = 0; off < data.length;) {
+					int len = Math.min(1 + random.nextInt(maxChunk), data.length - off);
+					out.write(data, off, len);
+					off += len;
+				}
+			} catch (IOException e) {
+				throw new IllegalStateException(e);
+			}
+		});
+		writer.start();
+		return writer;
+	}
+
+	/**
+	 * Reads until end of stream in random chunks up to given size.
+	 */
+	private static byte[] readAll(InputStream in, int maxChunk) throws IOException {
+		Random random = new Random(11);
+		ByteArrayOutputStream read = new ByteArrayOutputStream();
+		byte[] b = new byte[maxChunk];
+		for (int count; (count = in.read(b, 0, 1 + random.nextInt(maxChunk))) >= 0;) {
+			read.write(b, 0, count);
+		}
+		return read.toByteArray();
+	}
+
+}
@@ -0,0 +1,167 @@
+/******************************************************************************
+ * Copyright (c) 2020 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.eclipse.payara.tools.server.archives;
+
+import static org.junit.Assert.assertEquals;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.eclipse.core.runtime.Path;
+import org.eclipse.payara.tools.server.archives.AssembleModules.PackTask;
+import org.eclipse.payara.tools.server.archives.PublishDelta.Action;
+import org.eclipse.wst.server.core.IModule;
+import org.eclipse.wst.server.core.model.IModuleFile;
+import org.eclipse.wst.server.core.model.IModuleResourceDelta;
+import org.junit.Test;
+
+/**
+ * Publish action of assembled modules test.
+ */
+public class AssembleModulesTest {
+
+	/**
+	 * Assembler answering published resource deltas by the last module of the
+	 * module path.
+	 */
+	private static class DeltaAssembler extends AssembleModules {
+
+		private final Map<IModule, IModuleResourceDelta[]> deltas = new HashMap<>();
+
+		DeltaAssembler(IModule module) {
+			super(new IModule[] { module }, new Path("/assembly"), null, null);
+		}
+
+		DeltaAssembler changed(IModule changedModule, String... paths) {
+			IModuleResourceDelta[] changes = new IModuleResourceDelta[paths.length];
+			for (int i = 0; i < paths.length; i++) {
+				changes[i] = fileDelta(paths[i]);
+			}
+			deltas.put(changedModule, changes);
+			return this;
+		}
+
+		@Override
+		protected Pattern getRestartPattern() {
+			return null;
+		}
+
+		@Override
+		protected IModuleResourceDelta[] getPublishedResourceDelta(IModule[] deltaModulePath) {
+			return deltas.get(deltaModulePath[deltaModulePath.length - 1]);
+		}
+	}
+
+	private static IModule module(String id) {
+		return (IModule) Proxy.newProxyInstance(IModule.class.getClassLoader(), new Class<?>[] { IModule.class },
+				(proxy, method, args) -> {
+					switch (method.getName()) {
+					case "getId":
+					case "getName":
+					case "toString":
+						return id;
+					case "hashCode":
+						return System.identityHashCode(proxy);
+					case "equals":
+						return proxy == args[0];
+					default:
+						return null;
+					}
+				});
+	}
+
+	private static IModuleResourceDelta fileDelta(String path) {
+		Path modulePath = new Path(path);
+		IModuleFile file = (IModuleFile) Proxy.newProxyInstance(IModuleFile.class.getClassLoader(),
+				new Class<?>[] { IModuleFile.class }, (proxy, method, args) -> {
+					switch (method.getName()) {
+					case "getName":
+						return modulePath.lastSegment();
+					case "getModuleRelativePath":
+						return modulePath.removeLastSegments(1);
+					default:
+						return null;
+					}
+				});
+
+		return (IModuleResourceDelta) Proxy.newProxyInstance(IModuleResourceDelta.class.getClassLoader(),
+				new Class<?>[] { IModuleResourceDelta.class }, (proxy, method, args) -> {
+					switch (method.getName()) {
+					case "getModuleResource":
+						return file;
+					case "getModuleRelativePath":
+						return modulePath;
+					case "getAffectedChildren":
+						return new IModuleResourceDelta[0];
+					case "getKind":
+						return IModuleResourceDelta.CHANGED;
+					default:
+						return null;
+					}
+				});
+	}
+
+	/**
+	 * Test class change in a packed child module needs a reload of the parent.
+	 */
+	@Test
+	public void packedChildClassChangeReloads() {
+		IModule web = module("web");
+		IModule utility = module("utility");
+		DeltaAssembler assembler = new DeltaAssembler(web).changed(web, "index.jsp").changed(utility,
+				"com/example/Service.class");
+		assertEquals(Action.COPY, assembler.getPublishAction());
+
+		List<PackTask> packTasks = new ArrayList<>();
+		assembler.addPackTask(packTasks, utility, "WEB-INF/lib/utility.jar", new Path("/assembly"));
+
+		assertEquals(1, packTasks.size());
+		assertEquals(Action.RELOAD, assembler.getPublishAction());
+	}
+
+	/**
+	 * Test descriptor change in a packed child module needs a redeploy, and a
+	 * later cheaper child does not lower it.
+	 */
+	@Test
+	public void packedChildDescriptorChangeRedeploys() {
+		IModule ear = module("ear");
+		IModule ejb = module("ejb");
+		IModule utility = module("utility");
+		DeltaAssembler assembler = new DeltaAssembler(ear).changed(ejb, "META-INF/ejb-jar.xml").changed(utility,
+				"lib/helper.jar");
+
+		List<PackTask> packTasks = new ArrayList<>();
+		assembler.addPackTask(packTasks, ejb, "ejb.jar", new Path("/assembly"));
+		assembler.addPackTask(packTasks, utility, "utility.jar", new Path("/assembly"));
+
+		assertEquals(2, packTasks.size());
+		assertEquals(Action.REDEPLOY, assembler.getPublishAction());
+	}
+
+	/**
+	 * Test static change in a packed child module is only copied.
+	 */
+	@Test
+	public void packedChildStaticChangeCopies() {
+		IModule web = module("web");
+		IModule fragment = module("fragment");
+		DeltaAssembler assembler = new DeltaAssembler(web).changed(fragment, "META-INF/resources/style.css");
+
+		assembler.addPackTask(new ArrayList<>(), fragment, "WEB-INF/lib/fragment.jar", new Path("/assembly"));
+
+		assertEquals(Action.COPY, assembler.getPublishAction());
+	}
+
+}